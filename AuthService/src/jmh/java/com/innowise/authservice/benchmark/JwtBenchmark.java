@@ -0,0 +1,137 @@
+package com.innowise.authservice.benchmark;
+
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.dto.AuthDto;
+import com.innowise.authservice.model.dto.AuthenticationResponse;
+import com.innowise.authservice.model.dto.TokenInfo;
+import com.innowise.authservice.model.dto.TokenPayload;
+import com.innowise.authservice.model.entity.Role;
+import com.innowise.authservice.model.entity.User;
+import com.innowise.authservice.secutiry.VerifiedToken;
+import com.innowise.authservice.secutiry.impl.BloomTokenDenylist;
+import com.innowise.authservice.secutiry.impl.JwtServiceImpl;
+import com.innowise.authservice.secutiry.impl.ReloadableKeyRing;
+import com.innowise.authservice.secutiry.impl.UserPrincipal;
+import com.innowise.authservice.secutiry.impl.VerifiedTokenCache;
+import com.innowise.authservice.service.UserService;
+import com.innowise.authservice.service.impl.AuthServiceImpl;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ClassName JwtBenchmark
+ * @Description Throughput and latency of token issuance, verification, {@code /validate} and {@code /refresh}
+ * handling, measured without Spring, HTTP or the database.
+ * @Author dshparko
+ * @Date 17.10.2026 19:30
+ * @Version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    private static final long HOUR_MS = 3_600_000;
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    @Param({"false", "true"})
+    public boolean fastPathEnabled;
+
+    private JwtServiceImpl jwtService;
+    private AuthServiceImpl authService;
+    private UserPrincipal principal;
+    private TokenPayload accessPayload;
+    private TokenPayload refreshPayload;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString("benchmark-secret-benchmark-secret".getBytes());
+        ReloadableKeyRing keyRing = new ReloadableKeyRing(SignatureAlgorithm.HS256, secret, "", "", "");
+        VerifiedTokenCache cache = new VerifiedTokenCache(cacheEnabled, 10_000,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        BloomTokenDenylist denylist = new BloomTokenDenylist(null, 1_000_000, 0.01, DataSize.ofMegabytes(128), Duration.ofSeconds(5));
+        jwtService = new JwtServiceImpl(keyRing, HOUR_MS, HOUR_MS * 24 * 7, fastPathEnabled, cache, denylist);
+
+        User user = user();
+        principal = UserPrincipal.of(user);
+        authService = new AuthServiceImpl(jwtService, new FixedUserService(user), null, null, null, denylist, null,
+                null);
+
+        accessPayload = new TokenPayload(jwtService.generateAccessToken(principal));
+        refreshPayload = new TokenPayload(jwtService.generateRefreshToken(principal));
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(principal);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtService.generateRefreshToken(principal);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtService.verify(accessPayload.token());
+    }
+
+    @Benchmark
+    public TokenInfo validate() {
+        return authService.validate(accessPayload);
+    }
+
+    @Benchmark
+    public AuthenticationResponse refresh() {
+        return authService.refresh(refreshPayload);
+    }
+
+    private static User user() {
+        Role role = new Role();
+        role.setId(1L);
+        role.setName(RoleEnum.USER.name());
+        User user = new User();
+        user.setId(1L);
+        user.setRole(role);
+        return user;
+    }
+
+    private record FixedUserService(User user) implements UserService {
+
+        @Override
+        public void register(AuthDto request, Role role) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public User findById(Long id) {
+            return user;
+        }
+
+        @Override
+        public UserPrincipal loadPrincipal(Long id) {
+            return UserPrincipal.of(user);
+        }
+    }
+}
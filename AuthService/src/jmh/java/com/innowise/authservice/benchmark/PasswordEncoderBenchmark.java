@@ -0,0 +1,70 @@
+package com.innowise.authservice.benchmark;
+
+import com.innowise.authservice.secutiry.PasswordEncoder;
+import com.innowise.authservice.secutiry.impl.Pbkdf2PasswordEncoder;
+import com.innowise.authservice.secutiry.impl.SaltedPasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ClassName PasswordEncoderBenchmark
+ * @Description Throughput of password verification on one thread and on all cores.
+ * Comparing the two scores shows whether {@code matches} scales with the number of threads.
+ * {@code pbkdf2} runs with the production iteration count, so its score is the hashes per second per core.
+ * @Author dshparko
+ * @Date 18.10.2026 13:10
+ * @Version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"sha256", "pbkdf2"})
+    public String algorithm;
+
+    private PasswordEncoder encoder;
+    private String salt;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = "pbkdf2".equals(algorithm) ? new Pbkdf2PasswordEncoder(600_000) : new SaltedPasswordEncoder();
+        salt = encoder.generateSalt();
+        hash = encoder.encode(PASSWORD, salt);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean matchesSingleThread() {
+        return encoder.matches(PASSWORD, salt, hash);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean matchesAllCores() {
+        return encoder.matches(PASSWORD, salt, hash);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String generateSaltAllCores() {
+        return encoder.generateSalt();
+    }
+}
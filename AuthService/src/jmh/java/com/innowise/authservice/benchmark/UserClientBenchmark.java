@@ -0,0 +1,108 @@
+package com.innowise.authservice.benchmark;
+
+import com.innowise.authservice.config.AppConfig;
+import com.innowise.authservice.model.dto.UserDto;
+import com.innowise.authservice.service.impl.UserClientImpl;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ClassName UserClientBenchmark
+ * @Description Latency and throughput of {@code createUser} against a local stub of the User Service.
+ * {@code simple} is the former bare {@link RestTemplate} on {@code HttpURLConnection}, {@code pooled} the
+ * HttpClient 5 connection pool configured in {@link AppConfig}. Eight threads call concurrently, which is more
+ * than the five idle connections {@code HttpURLConnection} keeps per host.
+ * @Author dshparko
+ * @Date 21.10.2026 14:00
+ * @Version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class UserClientBenchmark {
+
+    @Param({"simple", "pooled"})
+    public String client;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private UserClientImpl userClient;
+    private final UserDto userDto = new UserDto();
+
+    @Setup
+    public void setUp() throws IOException {
+        // Otherwise Nagle's algorithm on the stub adds a delayed-ACK stall to every response
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 128);
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/v1/users", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = "{\"id\":42}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        RestTemplate restTemplate;
+        if ("pooled".equals(client)) {
+            AppConfig appConfig = new AppConfig();
+            connectionManager = appConfig.userServiceConnectionManager(
+                    100, 50, Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofMinutes(5));
+            httpClient = appConfig.userServiceHttpClient(
+                    connectionManager, Duration.ofSeconds(5), Duration.ofSeconds(1), Duration.ofSeconds(30));
+            restTemplate = appConfig.restTemplate(new RestTemplateBuilder(), httpClient);
+        } else {
+            restTemplate = new RestTemplate();
+        }
+        userClient = new UserClientImpl("http://localhost:" + server.getAddress().getPort(), "/api/v1/users",
+                "/api/v1/users/bulk", restTemplate);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+            connectionManager.close();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public Long createUser() {
+        return userClient.createUser(userDto, "1", "token");
+    }
+}
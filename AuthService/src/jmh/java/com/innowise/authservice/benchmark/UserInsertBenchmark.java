@@ -0,0 +1,134 @@
+package com.innowise.authservice.benchmark;
+
+import com.innowise.authservice.model.entity.IdGeneration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ClassName UserInsertBenchmark
+ * @Description Time to insert and commit a chunk of {@code rows} users with identity columns versus pooled sequences.
+ * {@code identity} inserts row by row with {@code RETURNING id}, as Hibernate must for {@code IDENTITY};
+ * {@code pooled} takes ids from a sequence incremented by {@link IdGeneration#ALLOCATION_SIZE} and sends one
+ * rewritten batch. {@code rows = 1} models a registration, larger values a bulk import chunk; inserts per second
+ * are {@code rows / score}. Needs a PostgreSQL database, by default {@code jdbc:postgresql://localhost:5432/postgres}:
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="UserInsertBenchmark -jvmArgs -Djdbc.url=... "
+ * @Author dshparko
+ * @Date 20.10.2026 15:30
+ * @Version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserInsertBenchmark {
+
+    @Param({"identity", "pooled"})
+    public String strategy;
+
+    @Param({"1", "100"})
+    public int rows;
+
+    private Connection connection;
+    private PreparedStatement identityInsert;
+    private PreparedStatement pooledInsert;
+    private PreparedStatement nextBlock;
+    private final Deque<Long> ids = new ArrayDeque<>();
+
+    @Setup
+    public void setUp() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty("jdbc.user", "postgres"));
+        properties.setProperty("password", System.getProperty("jdbc.password", ""));
+        properties.setProperty("reWriteBatchedInserts", "true");
+        connection = DriverManager.getConnection(
+                System.getProperty("jdbc.url", "jdbc:postgresql://localhost:5432/postgres"), properties);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_users");
+            statement.execute("drop sequence if exists bench_users_pooled_seq");
+            statement.execute("create table bench_users (id bigserial primary key, role_id bigint not null, "
+                    + "created_at date not null default current_date, is_active boolean not null default true)");
+            statement.execute("create sequence bench_users_pooled_seq increment by " + IdGeneration.ALLOCATION_SIZE);
+        }
+        connection.setAutoCommit(false);
+        identityInsert = connection.prepareStatement("insert into bench_users (role_id) values (?) returning id");
+        pooledInsert = connection.prepareStatement("insert into bench_users (id, role_id) values (?, ?)");
+        nextBlock = connection.prepareStatement("select nextval('bench_users_pooled_seq')");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table bench_users");
+            statement.execute("drop sequence bench_users_pooled_seq");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long insertChunk() throws SQLException {
+        long last = "pooled".equals(strategy) ? insertPooled() : insertIdentity();
+        connection.commit();
+        return last;
+    }
+
+    private long insertIdentity() throws SQLException {
+        long last = 0;
+        for (int i = 0; i < rows; i++) {
+            identityInsert.setLong(1, 1);
+            try (ResultSet resultSet = identityInsert.executeQuery()) {
+                resultSet.next();
+                last = resultSet.getLong(1);
+            }
+        }
+        return last;
+    }
+
+    private long insertPooled() throws SQLException {
+        long last = 0;
+        for (int i = 0; i < rows; i++) {
+            last = nextId();
+            pooledInsert.setLong(1, last);
+            pooledInsert.setLong(2, 1);
+            pooledInsert.addBatch();
+        }
+        pooledInsert.executeBatch();
+        return last;
+    }
+
+    private long nextId() throws SQLException {
+        if (ids.isEmpty()) {
+            try (ResultSet resultSet = nextBlock.executeQuery()) {
+                resultSet.next();
+                long hi = resultSet.getLong(1);
+                for (long id = Math.max(1, hi - IdGeneration.ALLOCATION_SIZE + 1); id <= hi; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids.poll();
+    }
+}
@@ -1,13 +1,87 @@
 package com.innowise.authservice.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
+@EnableScheduling
 public class AppConfig {
+
+    /**
+     * Connection pool for calls to the User Service. Connections are kept alive and reused across requests
+     * instead of opening a new TCP connection per call.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager userServiceConnectionManager(
+            @Value("${user-service.http.max-connections:100}") int maxConnections,
+            @Value("${user-service.http.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${user-service.http.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${user-service.http.read-timeout:PT5S}") Duration readTimeout,
+            @Value("${user-service.http.time-to-live:PT5M}") Duration timeToLive) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Publishes {@code httpcomponents.httpclient.pool.*} metrics of the User Service connection pool.
+     */
+    @Bean
+    public MeterBinder userServiceConnectionPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "user-service");
+    }
+
+    /**
+     * HTTP client for the User Service. Classic HttpClient 5 speaks HTTP/1.1 only, so connections are reused
+     * through keep-alive rather than multiplexed with HTTP/2.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient userServiceHttpClient(
+            PoolingHttpClientConnectionManager connectionManager,
+            @Value("${user-service.http.read-timeout:PT5S}") Duration readTimeout,
+            @Value("${user-service.http.pool-timeout:PT1S}") Duration poolTimeout,
+            @Value("${user-service.http.keep-alive:PT30S}") Duration keepAlive) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        // Used when the server does not send a Keep-Alive header
+                        .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient userServiceHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(userServiceHttpClient))
+                .build();
     }
 }
@@ -0,0 +1,87 @@
+package com.innowise.authservice.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.innowise.authservice.model.entity.Role;
+import com.innowise.authservice.model.entity.User;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * @ClassName EntityCacheCustomizer
+ * @Description Optional Hibernate second-level and query cache, kept in process by Caffeine through JCache.
+ * Caches {@link Role} and {@link User} rows and cacheable queries so that token refresh and request
+ * authentication can be served without touching the database. Regions are created here from application
+ * properties; Hibernate cache statistics are enabled with it and published as metrics.
+ * @Author dshparko
+ * @Date 19.10.2026 10:00
+ * @Version 1.0
+ */
+@Component
+public class EntityCacheCustomizer implements HibernatePropertiesCustomizer, DisposableBean {
+    private final CacheManager cacheManager;
+
+    public EntityCacheCustomizer(
+            @Value("${auth.entity-cache.enabled:false}") boolean enabled,
+            @Value("${auth.entity-cache.users.ttl:PT5M}") Duration usersTtl,
+            @Value("${auth.entity-cache.users.maximum-size:100000}") long usersMaximumSize,
+            @Value("${auth.entity-cache.queries.ttl:PT5M}") Duration queriesTtl,
+            @Value("${auth.entity-cache.queries.maximum-size:100000}") long queriesMaximumSize) {
+        if (!enabled) {
+            this.cacheManager = null;
+            return;
+        }
+        this.cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        createRegion(Role.CACHE_REGION, null, 64);
+        createRegion(User.CACHE_REGION, usersTtl, usersMaximumSize);
+        createRegion(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queriesTtl, queriesMaximumSize);
+        // Must outlive every cached query result, otherwise stale results could be returned
+        createRegion(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, null, 0);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        if (cacheManager == null) {
+            return;
+        }
+        hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+        hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+        hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+        hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+    }
+
+    @Override
+    public void destroy() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    /**
+     * @param ttl         expiration after write, or {@code null} for none
+     * @param maximumSize maximum number of entries, or {@code 0} for unbounded
+     */
+    private void createRegion(String name, Duration ttl, long maximumSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        if (maximumSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,51 @@
+package com.innowise.authservice.config;
+
+import com.innowise.authservice.model.dto.PasswordHashCalibration;
+import com.innowise.authservice.secutiry.impl.PasswordHashCalibrator;
+import com.innowise.authservice.secutiry.impl.Pbkdf2PasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @ClassName PasswordHashingEndpoint
+ * @Description Actuator endpoint exposing the current password hashing cost and re-running its calibration.
+ * Restricted to administrators in {@link SecurityConfig}, since a calibration changes the cost of every login.
+ * @Author dshparko
+ * @Date 18.10.2026 16:40
+ * @Version 1.0
+ */
+@Component
+@Endpoint(id = "passwordhashing")
+@RequiredArgsConstructor
+public class PasswordHashingEndpoint {
+    private final Pbkdf2PasswordEncoder encoder;
+    private final PasswordHashCalibrator calibrator;
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("iterations", encoder.getIterations());
+        settings.put("targetMillis", calibrator.getTarget().toMillis());
+        settings.put("lastCalibration", calibrator.getLast());
+        return settings;
+    }
+
+    /**
+     * Re-measures the host and applies the resulting iteration count.
+     *
+     * @param targetMillis new target time per hash; the current target is kept when omitted
+     */
+    @WriteOperation
+    public PasswordHashCalibration calibrate(@Nullable Long targetMillis) {
+        Duration target = targetMillis != null ? Duration.ofMillis(targetMillis) : calibrator.getTarget();
+        return calibrator.calibrate(target);
+    }
+}
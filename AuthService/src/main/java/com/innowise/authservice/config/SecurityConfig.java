@@ -1,5 +1,6 @@
 package com.innowise.authservice.config;
 
+import com.innowise.authservice.model.RoleEnum;
 import com.innowise.authservice.secutiry.JwtFilter;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -29,7 +30,8 @@ public class SecurityConfig {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/v1/auth/**", "/actuator/health").permitAll()
+                        .requestMatchers("/api/v1/auth/**", "/.well-known/jwks.json", "/actuator/health").permitAll()
+                        .requestMatchers("/api/v1/admin/**", "/actuator/**").hasAuthority(RoleEnum.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
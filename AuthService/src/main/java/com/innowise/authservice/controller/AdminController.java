@@ -0,0 +1,38 @@
+package com.innowise.authservice.controller;
+
+import com.innowise.authservice.service.UserImportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @ClassName AdminController
+ * @Description Provides administrative endpoints. Restricted to the ADMIN role.
+ * @Author dshparko
+ * @Date 20.10.2026 11:00
+ * @Version 1.0
+ */
+@AllArgsConstructor
+@RestController
+@RequestMapping("api/v1/admin")
+public class AdminController {
+    private final UserImportService userImportService;
+
+    /**
+     * Imports users from a newline-delimited JSON (or JSON array) body of registration records and
+     * streams back one newline-delimited result per record as records are processed.
+     */
+    @PostMapping(value = "/users/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importUsers(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        userImportService.importUsers(body, response.getOutputStream());
+    }
+}
@@ -5,6 +5,7 @@ import com.innowise.authservice.model.dto.AuthenticationResponse;
 import com.innowise.authservice.model.dto.LoginDto;
 import com.innowise.authservice.model.dto.TokenInfo;
 import com.innowise.authservice.model.dto.TokenPayload;
+import com.innowise.authservice.model.dto.TokenValidationResult;
 import com.innowise.authservice.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -16,6 +17,8 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * @ClassName AuthController
  * @Description Provides endpoints for authentication operations.
@@ -47,9 +50,20 @@ public class AuthController {
         return ResponseEntity.ok(authService.validate(token));
     }
 
+    @PostMapping("/validate/batch")
+    public ResponseEntity<List<TokenValidationResult>> validateBatch(@RequestBody List<TokenPayload> tokens) {
+        return ResponseEntity.ok(authService.validateAll(tokens));
+    }
+
     @PostMapping("/refresh")
     public ResponseEntity<AuthenticationResponse> refresh(@RequestBody @Valid TokenPayload request) {
         return ResponseEntity.ok(authService.refresh(request));
     }
 
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@RequestBody @Valid TokenPayload token) {
+        authService.revoke(token);
+        return ResponseEntity.noContent().build();
+    }
+
 }
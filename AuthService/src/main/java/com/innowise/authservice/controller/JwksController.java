@@ -0,0 +1,35 @@
+package com.innowise.authservice.controller;
+
+import com.innowise.authservice.model.dto.JwkSetDto;
+import com.innowise.authservice.secutiry.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * @ClassName JwksController
+ * @Description Publishes the JSON Web Key Set so other services can verify tokens without calling this service.
+ * @Author dshparko
+ * @Date 17.10.2026 16:40
+ * @Version 1.0
+ */
+@RequiredArgsConstructor
+@RestController
+public class JwksController {
+    private final JwtService jwtService;
+
+    @Value("${jwt.jwks.max-age:PT1H}")
+    private Duration maxAge;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<JwkSetDto> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(maxAge).cachePublic())
+                .body(jwtService.publicKeys());
+    }
+}
@@ -0,0 +1,27 @@
+package com.innowise.authservice.exception;
+
+import lombok.Getter;
+
+import java.io.Serial;
+import java.util.UUID;
+
+/**
+ * @ClassName ServiceUnavailableException
+ * @Description Exception thrown when the service is temporarily out of capacity and the request should be retried.
+ * @Author dshparko
+ * @Date 18.10.2026 14:05
+ * @Version 1.0
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    @Getter
+    @Serial
+    private final UUID errorId = UUID.randomUUID();
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,6 @@
+package com.innowise.authservice.model;
+
+public enum OutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,20 @@
+package com.innowise.authservice.model.dto;
+
+/**
+ * @ClassName ImportedUser
+ * @Description A validated import record ready to be written: the user, its credential and the
+ * serialized data for the User Service.
+ * @Author dshparko
+ * @Date 20.10.2026 10:05
+ * @Version 1.0
+ */
+public record ImportedUser(
+        long index,
+        Long userId,
+        Long roleId,
+        String email,
+        String passwordHash,
+        String salt,
+        String userData
+) {
+}
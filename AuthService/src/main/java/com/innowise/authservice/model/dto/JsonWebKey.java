@@ -0,0 +1,22 @@
+package com.innowise.authservice.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * @ClassName JsonWebKey
+ * @Description Public JSON Web Key (RFC 7517) describing a key that verifies tokens issued by this service.
+ * @Author dshparko
+ * @Date 17.10.2026 16:05
+ * @Version 1.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JsonWebKey(
+        String kty,
+        String crv,
+        String x,
+        String y,
+        String use,
+        String alg,
+        String kid
+) {
+}
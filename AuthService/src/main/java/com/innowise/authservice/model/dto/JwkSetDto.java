@@ -0,0 +1,15 @@
+package com.innowise.authservice.model.dto;
+
+import java.util.List;
+
+/**
+ * @ClassName JwkSetDto
+ * @Description JSON Web Key Set (RFC 7517) published for local token verification by other services.
+ * @Author dshparko
+ * @Date 17.10.2026 16:05
+ * @Version 1.0
+ */
+public record JwkSetDto(
+        List<JsonWebKey> keys
+) {
+}
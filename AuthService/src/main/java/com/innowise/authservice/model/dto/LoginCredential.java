@@ -0,0 +1,20 @@
+package com.innowise.authservice.model.dto;
+
+/**
+ * @ClassName LoginCredential
+ * @Description Read-only projection with exactly the data needed to authenticate a user,
+ * loaded in a single query without managed entities.
+ * @Author dshparko
+ * @Date 18.10.2026 17:10
+ * @Version 1.0
+ */
+public record LoginCredential(
+        Long credentialId,
+        Long userId,
+        String email,
+        String passwordHash,
+        String salt,
+        String role,
+        boolean active
+) {
+}
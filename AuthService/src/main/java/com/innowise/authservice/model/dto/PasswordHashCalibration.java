@@ -0,0 +1,21 @@
+package com.innowise.authservice.model.dto;
+
+import java.time.Instant;
+
+/**
+ * @ClassName PasswordHashCalibration
+ * @Description Outcome of measuring password hashing speed on this host and the work factor chosen from it.
+ * @Author dshparko
+ * @Date 18.10.2026 16:10
+ * @Version 1.0
+ */
+public record PasswordHashCalibration(
+        String algorithm,
+        int iterations,
+        long targetMillis,
+        double millisPerHash,
+        double hashesPerSecondPerCore,
+        int cores,
+        Instant calibratedAt
+) {
+}
@@ -0,0 +1,24 @@
+package com.innowise.authservice.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * @ClassName TokenValidationResult
+ * @Description Outcome of validating a single token within a batch: either the token info or the error message.
+ * @Author dshparko
+ * @Date 17.10.2026 15:20
+ * @Version 1.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenValidationResult(
+        TokenInfo info,
+        String error
+) {
+    public static TokenValidationResult valid(TokenInfo info) {
+        return new TokenValidationResult(info, null);
+    }
+
+    public static TokenValidationResult invalid(String error) {
+        return new TokenValidationResult(null, error);
+    }
+}
@@ -0,0 +1,26 @@
+package com.innowise.authservice.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * @ClassName UserImportResult
+ * @Description Outcome of importing a single record: the created user id or the reason it was skipped.
+ * @Author dshparko
+ * @Date 20.10.2026 10:00
+ * @Version 1.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportResult(
+        long index,
+        String email,
+        Long userId,
+        String error
+) {
+    public static UserImportResult created(long index, String email, Long userId) {
+        return new UserImportResult(index, email, userId, null);
+    }
+
+    public static UserImportResult failed(long index, String email, String error) {
+        return new UserImportResult(index, email, null, error);
+    }
+}
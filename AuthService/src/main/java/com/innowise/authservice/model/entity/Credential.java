@@ -2,11 +2,16 @@ package com.innowise.authservice.model.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,17 +25,29 @@ import lombok.Setter;
  * @Version 1.0
  */
 @Entity
+@NamedEntityGraph(
+        name = Credential.WITH_USER_AND_ROLE,
+        attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user.role"),
+        subgraphs = @NamedSubgraph(name = "user.role", attributeNodes = @NamedAttributeNode("role"))
+)
 @Table(name = "credentials")
 @Getter
 @Setter
 @NoArgsConstructor
 public class Credential {
+    /**
+     * Fetch plan for callers that need the credential together with its user and role as entities.
+     */
+    public static final String WITH_USER_AND_ROLE = "Credential.withUserAndRole";
+
     /**
      * Primary key of the credential record.
      * Auto-generated by the database.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdGeneration.CREDENTIALS_SEQUENCE)
+    @SequenceGenerator(name = IdGeneration.CREDENTIALS_SEQUENCE, sequenceName = IdGeneration.CREDENTIALS_SEQUENCE,
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -58,7 +75,7 @@ public class Credential {
      * Associated user entity.
      * This is a mandatory one-to-one relationship.
      */
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 }
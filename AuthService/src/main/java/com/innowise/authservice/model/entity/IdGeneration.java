@@ -0,0 +1,25 @@
+package com.innowise.authservice.model.entity;
+
+/**
+ * @ClassName IdGeneration
+ * @Description Sequence-based id allocation shared by the entities and the JDBC bulk paths.
+ * Each {@code nextval} reserves a block of {@link #ALLOCATION_SIZE} ids ending at the returned value, so
+ * inserts need no round trip per row and Hibernate can batch them.
+ * @Author dshparko
+ * @Date 20.10.2026 15:00
+ * @Version 1.0
+ */
+public final class IdGeneration {
+    /**
+     * Must match {@code INCREMENT BY} of the sequences, see {@code db.changelog-7.0.sql}.
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String ROLES_SEQUENCE = "roles_id_seq";
+    public static final String USERS_SEQUENCE = "users_id_seq";
+    public static final String CREDENTIALS_SEQUENCE = "credentials_id_seq";
+    public static final String USER_OUTBOX_SEQUENCE = "user_outbox_id_seq";
+
+    private IdGeneration() {
+    }
+}
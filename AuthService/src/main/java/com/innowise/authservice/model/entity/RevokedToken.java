@@ -0,0 +1,50 @@
+package com.innowise.authservice.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * @ClassName RevokedToken
+ * @Description Represents a token that was revoked before its expiration.
+ * @Author dshparko
+ * @Date 18.10.2026 10:05
+ * @Version 1.0
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+public class RevokedToken {
+    /**
+     * Unique token identifier taken from the {@code jti} claim.
+     */
+    @Id
+    private UUID jti;
+
+    /**
+     * Expiration of the revoked token. The record is no longer needed after this moment.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Moment the token was revoked, set by the database so that all instances share one clock.
+     * Used to pick up revocations made by other instances.
+     */
+    @Column(name = "revoked_at", nullable = false, insertable = false, updatable = false)
+    private Instant revokedAt;
+
+    public RevokedToken(UUID jti, Instant expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -1,14 +1,18 @@
 package com.innowise.authservice.model.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * @ClassName Role
@@ -18,17 +22,27 @@ import lombok.Setter;
  * @Version 1.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = Role.CACHE_REGION)
 @NoArgsConstructor
 @Setter
 @Getter
 @Table(name = "roles")
 public class Role {
+    /**
+     * Second-level cache region, created by {@link com.innowise.authservice.config.EntityCacheCustomizer}
+     * when {@code auth.entity-cache.enabled} is set.
+     */
+    public static final String CACHE_REGION = "auth-roles";
+
     /**
      * Primary key of the role record.
      * Auto-generated by the database.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdGeneration.ROLES_SEQUENCE)
+    @SequenceGenerator(name = IdGeneration.ROLES_SEQUENCE, sequenceName = IdGeneration.ROLES_SEQUENCE,
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     /**
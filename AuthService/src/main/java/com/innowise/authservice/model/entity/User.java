@@ -1,49 +1,77 @@
 package com.innowise.authservice.model.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import com.innowise.authservice.model.event.UserStateListener;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
 /**
  * @ClassName User
  * @Description Represents a system user within the authentication domain.
+ * All associations are lazy; use cases that need them declare it through the named entity graphs below.
  * @Author dshparko
  * @Date 04.10.2025 18:38
  * @Version 1.0
  */
 @Entity
+@EntityListeners(UserStateListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NamedEntityGraph(name = User.WITH_ROLE, attributeNodes = @NamedAttributeNode("role"))
 @NoArgsConstructor
 @Setter
 @Getter
 @Table(name = "users")
 public class User {
+    /**
+     * Fetch plan for token refresh and request authentication: the user and its role, no credential.
+     */
+    public static final String WITH_ROLE = "User.withRole";
+
+    /**
+     * Second-level cache region, created by {@link com.innowise.authservice.config.EntityCacheCustomizer}
+     * when {@code auth.entity-cache.enabled} is set; sized by {@code auth.entity-cache.users.*}.
+     */
+    public static final String CACHE_REGION = "auth-users";
+
     /**
      * Primary key of the user record.
      * Auto-generated by the database.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdGeneration.USERS_SEQUENCE)
+    @SequenceGenerator(name = IdGeneration.USERS_SEQUENCE, sequenceName = IdGeneration.USERS_SEQUENCE,
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     /**
      * One-to-one relationship with {@link Credential}.
      * Mapped by the {@code user} field in {@link Credential}.
      * Cascade type ALL ensures credentials are persisted/removed with the user.
+     * Being the inverse side, it can only be loaded lazily with bytecode enhancement enabled at build time.
      */
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL)
+    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Credential credential;
 
     /**
@@ -51,7 +79,7 @@ public class User {
      * Defines the user's access level and permissions.
      */
     @JoinColumn(name = "role_id", nullable = false)
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Role role;
 
     /**
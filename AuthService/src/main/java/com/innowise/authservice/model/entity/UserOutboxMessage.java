@@ -0,0 +1,97 @@
+package com.innowise.authservice.model.entity;
+
+import com.innowise.authservice.model.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * @ClassName UserOutboxMessage
+ * @Description A pending request to create a user in the User Service.
+ * Written in the registration transaction and delivered afterwards, so registration does not wait for
+ * the remote call. Delivered messages are deleted.
+ * @Author dshparko
+ * @Date 19.10.2026 14:00
+ * @Version 1.0
+ */
+@Entity
+@Table(name = "user_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserOutboxMessage {
+    /**
+     * Primary key of the message. Also defines delivery order.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdGeneration.USER_OUTBOX_SEQUENCE)
+    @SequenceGenerator(name = IdGeneration.USER_OUTBOX_SEQUENCE, sequenceName = IdGeneration.USER_OUTBOX_SEQUENCE,
+            allocationSize = IdGeneration.ALLOCATION_SIZE)
+    private Long id;
+
+    /**
+     * Identifier of the registered user.
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * User data to send, serialized as JSON.
+     */
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    /**
+     * Number of delivery attempts made so far.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * The message is not picked up before this moment. Used both for backoff and as a lease while
+     * a dispatcher is delivering it.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    /**
+     * Reason of the last failed attempt.
+     */
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public UserOutboxMessage(Long userId, String payload) {
+        this.userId = userId;
+        this.payload = payload;
+    }
+
+    /**
+     * Initializes {@code createdAt} and makes the message immediately available.
+     */
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = Instant.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.innowise.authservice.model.event;
+
+/**
+ * @ClassName UserStateChangedEvent
+ * @Description Published when a user's role, active flag or existence changes, so that cached
+ * snapshots of the user can be dropped.
+ * @Author dshparko
+ * @Date 18.10.2026 18:05
+ * @Version 1.0
+ */
+public record UserStateChangedEvent(Long userId) {
+}
@@ -0,0 +1,28 @@
+package com.innowise.authservice.model.event;
+
+import com.innowise.authservice.model.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * @ClassName UserStateListener
+ * @Description JPA entity listener that publishes {@link UserStateChangedEvent} whenever a {@link User}
+ * row is updated or removed through JPA, so no caller has to remember to do it.
+ * @Author dshparko
+ * @Date 18.10.2026 18:10
+ * @Version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStateListener {
+    private final ApplicationEventPublisher publisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        publisher.publishEvent(new UserStateChangedEvent(user.getId()));
+    }
+}
@@ -1,8 +1,14 @@
 package com.innowise.authservice.repository;
 
+import com.innowise.authservice.model.dto.LoginCredential;
 import com.innowise.authservice.model.entity.Credential;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -16,20 +22,42 @@ import java.util.Optional;
 @Repository
 public interface CredentialRepository extends JpaRepository<Credential, Long> {
     /**
-     * Finds a credential by its associated email.
+     * Finds a credential by its associated email, fetching its user and role in the same statement.
      *
      * @param email the email to search for
      * @return an optional containing the credential if found
      */
+    @EntityGraph(Credential.WITH_USER_AND_ROLE)
     Optional<Credential> findByEmail(String email);
 
     /**
-     * Checks whether a credential exists for the given email.
+     * Loads the data needed for login with one query on the unique email index.
      *
-     * @param email the email to check
-     * @return true if a credential exists, false otherwise
+     * @param email the email to search for
+     * @return an optional containing the login data if found
+     */
+    @Query("select new com.innowise.authservice.model.dto.LoginCredential(" +
+            "c.id, u.id, c.email, c.passwordHash, c.salt, r.name, u.isActive) " +
+            "from Credential c join c.user u join u.role r where c.email = :email")
+    Optional<LoginCredential> findLoginByEmail(@Param("email") String email);
+
+    /**
+     * Inserts a credential unless its email is already taken, checking and inserting in one statement.
+     * Unlike a separate existence check, a concurrent registration of the same email cannot slip in between.
+     *
+     * @param id           credential identifier
+     * @param email        email to register
+     * @param passwordHash password hash
+     * @param salt         salt used for the hash
+     * @param userId       identifier of the user owning the credential
+     * @return the identifier if the credential was inserted, or empty if the email is already in use
      */
-    boolean existsByEmail(String email);
+    @Query(value = "insert into credentials (id, email, password_hash, salt, user_id) " +
+            "values (:id, :email, :passwordHash, :salt, :userId) " +
+            "on conflict (email) do nothing returning id", nativeQuery = true)
+    Optional<Long> insertIfAbsent(@Param("id") Long id, @Param("email") String email,
+                                  @Param("passwordHash") String passwordHash, @Param("salt") String salt,
+                                  @Param("userId") Long userId);
 
     /**
      * Saves a credential entity to the database.
@@ -38,4 +66,20 @@ public interface CredentialRepository extends JpaRepository<Credential, Long> {
      * @return the saved credential with generated ID (if new)
      */
     Credential save(Credential credential);
+
+    /**
+     * Replaces the password hash and salt, unless the hash was changed since it was read.
+     *
+     * @param id      credential identifier
+     * @param oldHash hash the new one was computed to replace
+     * @param newHash new password hash
+     * @param newSalt salt used for the new hash
+     * @return number of updated records
+     */
+    @Transactional
+    @Modifying
+    @Query("update Credential c set c.passwordHash = :newHash, c.salt = :newSalt " +
+            "where c.id = :id and c.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash, @Param("newSalt") String newSalt);
 }
@@ -0,0 +1,59 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.model.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @ClassName RevokedTokenRepository
+ * @Description Repository interface for accessing {@link RevokedToken} entities.
+ * @Author dshparko
+ * @Date 18.10.2026 10:10
+ * @Version 1.0
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    /**
+     * Finds revocations made after the given moment that are still relevant.
+     *
+     * @param revokedAfter lower bound of the revocation time
+     * @param expiresAfter lower bound of the token expiration
+     * @return matching revocations
+     */
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(Instant revokedAfter, Instant expiresAfter);
+
+    /**
+     * Stores a revocation unless the token is already revoked. A plain {@code save} of an entity with an assigned
+     * identifier is a merge, which selects the row before inserting it; this is a single statement instead.
+     * {@code revoked_at} is left to its column default, so every instance stamps revocations with the database clock.
+     *
+     * @param jti       identifier of the revoked token
+     * @param expiresAt expiration of the revoked token
+     * @return 1 if the revocation was stored, 0 if the token was already revoked
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into revoked_tokens (jti, expires_at) values (:jti, :expiresAt) " +
+            "on conflict (jti) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("jti") UUID jti, @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Deletes revocations of tokens that have already expired.
+     *
+     * @param now current time
+     * @return number of deleted records
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,7 +1,10 @@
 package com.innowise.authservice.repository;
 
 import com.innowise.authservice.model.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -22,5 +25,6 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
      * @param roleName the name of the role
      * @return an optional containing the role if found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(String roleName);
 }
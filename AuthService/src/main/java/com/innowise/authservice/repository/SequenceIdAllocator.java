@@ -0,0 +1,82 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.model.entity.IdGeneration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @ClassName SequenceIdAllocator
+ * @Description Reserves ids for rows written with SQL instead of through Hibernate.
+ * Each {@code nextval} owns the block of {@link IdGeneration#ALLOCATION_SIZE} ids ending at the returned value,
+ * the same way Hibernate's pooled optimizer interprets it, so these ids never collide with ids assigned to entities.
+ * @Author dshparko
+ * @Date 21.10.2026 10:00
+ * @Version 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class SequenceIdAllocator {
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the next id of a sequence, fetching a new block once the current one is used up.
+     *
+     * @param sequence sequence to take the id from
+     * @return reserved id
+     */
+    public long next(String sequence) {
+        Block block = blocks.computeIfAbsent(sequence, name -> new Block());
+        synchronized (block) {
+            if (block.next > block.hi) {
+                long hi = nextval(sequence, 1).getFirst();
+                block.next = first(hi);
+                block.hi = hi;
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * Reserves ids from a sequence with one round trip per {@link IdGeneration#ALLOCATION_SIZE} ids.
+     *
+     * @param sequence sequence to reserve ids from
+     * @param count    number of ids to reserve
+     * @return reserved ids
+     */
+    public List<Long> allocate(String sequence, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blockCount = (count - ids.size() + IdGeneration.ALLOCATION_SIZE - 1) / IdGeneration.ALLOCATION_SIZE;
+            for (long hi : nextval(sequence, blockCount)) {
+                for (long id = first(hi); id <= hi && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private List<Long> nextval(String sequence, int count) {
+        return jdbcTemplate.queryForList(
+                "select nextval(?::regclass) from generate_series(1, ?)", Long.class, sequence, count);
+    }
+
+    /**
+     * A fresh sequence returns its start value first, which owns only itself.
+     */
+    private static long first(long hi) {
+        return Math.max(1, hi - IdGeneration.ALLOCATION_SIZE + 1);
+    }
+
+    private static final class Block {
+        private long next = 1;
+        private long hi = 0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.model.dto.ImportedUser;
+import com.innowise.authservice.model.entity.IdGeneration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @ClassName UserImportRepository
+ * @Description Writes imported users with JDBC batch inserts instead of one entity save per row.
+ * Must be called within a transaction.
+ * @Author dshparko
+ * @Date 20.10.2026 10:10
+ * @Version 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserImportRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final SequenceIdAllocator idAllocator;
+
+    /**
+     * Returns the emails among the given ones that already have credentials.
+     *
+     * @param emails emails to check
+     * @return emails that are already in use
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+                "select email from credentials where email in (:emails)", Map.of("emails", emails), String.class));
+    }
+
+    /**
+     * Inserts the users, their credentials and the outbox messages for the User Service in three batches.
+     *
+     * @param users users to insert, with ids reserved by {@link SequenceIdAllocator#allocate(String, int)}
+     */
+    public void insert(List<ImportedUser> users) {
+        Date today = Date.valueOf(LocalDate.now());
+        Timestamp now = Timestamp.from(Instant.now());
+        Iterator<Long> credentialIds =
+                idAllocator.allocate(IdGeneration.CREDENTIALS_SEQUENCE, users.size()).iterator();
+        Iterator<Long> outboxIds =
+                idAllocator.allocate(IdGeneration.USER_OUTBOX_SEQUENCE, users.size()).iterator();
+
+        jdbcTemplate.batchUpdate(
+                "insert into users (id, role_id, created_at, is_active) values (?, ?, ?, true)",
+                users, users.size(), (ps, user) -> {
+                    ps.setLong(1, user.userId());
+                    ps.setLong(2, user.roleId());
+                    ps.setDate(3, today);
+                });
+        jdbcTemplate.batchUpdate(
+                "insert into credentials (id, email, password_hash, salt, user_id) values (?, ?, ?, ?, ?)",
+                users, users.size(), (ps, user) -> {
+                    ps.setLong(1, credentialIds.next());
+                    ps.setString(2, user.email());
+                    ps.setString(3, user.passwordHash());
+                    ps.setString(4, user.salt());
+                    ps.setLong(5, user.userId());
+                });
+        jdbcTemplate.batchUpdate(
+                "insert into user_outbox (id, user_id, payload, next_attempt_at, created_at) values (?, ?, ?, ?, ?)",
+                users, users.size(), (ps, user) -> {
+                    ps.setLong(1, outboxIds.next());
+                    ps.setLong(2, user.userId());
+                    ps.setString(3, user.userData());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                });
+    }
+}
@@ -0,0 +1,56 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.model.OutboxStatus;
+import com.innowise.authservice.model.entity.UserOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * @ClassName UserOutboxRepository
+ * @Description Repository interface for accessing {@link UserOutboxMessage} entities.
+ * @Author dshparko
+ * @Date 19.10.2026 14:10
+ * @Version 1.0
+ */
+@Repository
+public interface UserOutboxRepository extends JpaRepository<UserOutboxMessage, Long> {
+
+    /**
+     * Claims due messages for delivery: counts the attempt and hides them from other dispatchers until
+     * {@code leaseUntil}. Rows locked by a concurrent claim are skipped rather than waited for.
+     *
+     * @param now        current time
+     * @param leaseUntil moment the messages become available again if they are not delivered
+     * @param limit      maximum number of messages to claim
+     * @return claimed messages in creation order
+     */
+    @Transactional
+    @Query(value = "update user_outbox set attempts = attempts + 1, next_attempt_at = :leaseUntil " +
+            "where id in (select id from user_outbox where status = 'PENDING' and next_attempt_at <= :now " +
+            "order by id limit :limit for update skip locked) returning *", nativeQuery = true)
+    List<UserOutboxMessage> claimBatch(@Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil,
+                                       @Param("limit") int limit);
+
+    /**
+     * Records a failed attempt.
+     *
+     * @param id            message identifier
+     * @param status        {@code PENDING} to retry at {@code nextAttemptAt}, {@code FAILED} to give up
+     * @param nextAttemptAt moment of the next attempt
+     * @param error         reason of the failure
+     * @return number of updated records
+     */
+    @Transactional
+    @Modifying
+    @Query("update UserOutboxMessage m set m.status = :status, m.nextAttemptAt = :nextAttemptAt, " +
+            "m.lastError = :error where m.id = :id")
+    int markFailed(@Param("id") Long id, @Param("status") OutboxStatus status,
+                   @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+}
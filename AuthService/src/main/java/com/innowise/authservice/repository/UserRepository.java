@@ -1,9 +1,15 @@
 package com.innowise.authservice.repository;
 
 import com.innowise.authservice.model.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 /**
  * @ClassName UserRepository
  * @Description Repository interface for accessing {@link User} entities.
@@ -20,4 +26,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return the saved user with generated ID (if new)
      */
     User save(User user);
+
+    /**
+     * Finds a user together with its role in a single statement; the credential is not loaded.
+     * With the second-level cache enabled the result is served from the query cache.
+     *
+     * @param id the user identifier
+     * @return the user, or empty if it does not exist
+     */
+    @EntityGraph(User.WITH_ROLE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<User> findWithRoleById(Long id);
 }
@@ -16,4 +16,9 @@ public final class AuthConstant {
     public static final String DEFAULT_ALGORITHM = "SHA-256";
     public static final String ACCESS_TYPE = "access";
     public static final String REFRESH_TYPE = "refresh";
+    public static final String SERVICE_TYPE = "service";
+    public static final String SERVICE_ROLE = "SERVICE";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TYPE_CLAIM = "type";
+    public static final String ACTIVE_CLAIM = "active";
 }
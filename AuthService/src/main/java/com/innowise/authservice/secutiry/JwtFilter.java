@@ -1,39 +1,51 @@
 package com.innowise.authservice.secutiry;
 
 import com.innowise.authservice.exception.AuthServiceException;
-import com.innowise.authservice.model.entity.User;
 import com.innowise.authservice.secutiry.impl.UserPrincipal;
 import com.innowise.authservice.service.UserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.AllArgsConstructor;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 
 import static com.innowise.authservice.secutiry.AuthConstant.AUTH_HEADER;
+import static com.innowise.authservice.secutiry.AuthConstant.SERVICE_TYPE;
 import static com.innowise.authservice.secutiry.AuthConstant.TOKEN_PREFIX;
 
 /**
  * @ClassName JwtFilter
  * @Description Security filter responsible for extracting and validating JWT tokens from incoming requests.
+ * In stateless mode the principal is built from the verified claims; the database is consulted only for
+ * tokens that lack a claim or were issued longer ago than the configured maximum claim age.
+ * Service tokens minted for outbound calls never authenticate a request.
  * @Author dshparko
  * @Date 04.10.2025 19:35
  * @Version 1.0
  */
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserService userService;
 
+    @Value("${jwt.filter.stateless:false}")
+    private boolean stateless;
+
+    @Value("${jwt.filter.max-claim-age:PT15M}")
+    private Duration maxClaimAge;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -51,32 +63,51 @@ public class JwtFilter extends OncePerRequestFilter {
         final String token = authHeader.substring(TOKEN_PREFIX.length());
 
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
-            User user = resolveUserFromToken(token);
-            UserPrincipal principal = UserPrincipal.of(user);
-
-            UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
-
-            SecurityContextHolder.getContext().setAuthentication(authToken);
+            VerifiedToken verified = jwtService.verify(token);
+            // Tokens this service presents to other services must not open its own endpoints
+            if (SERVICE_TYPE.equals(verified.type())) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            UserPrincipal principal = resolvePrincipal(verified);
+
+            if (principal.isEnabled()) {
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private User resolveUserFromToken(String token) {
-        final String id = jwtService.extractUserId(token);
+    private UserPrincipal resolvePrincipal(VerifiedToken verified) {
+        Long userId = parseUserId(verified.userId());
+
+        if (stateless && hasFreshClaims(verified)) {
+            return new UserPrincipal(userId, verified.role(), verified.active(), null, null);
+        }
+        return userService.loadPrincipal(userId);
+    }
+
+    private boolean hasFreshClaims(VerifiedToken verified) {
+        return verified.role() != null
+                && verified.active() != null
+                && verified.issuedAt() != null
+                && verified.issuedAt().plus(maxClaimAge).isAfter(Instant.now());
+    }
 
+    private Long parseUserId(String id) {
         if (id == null || id.isBlank()) {
             throw new AuthServiceException("Missing user ID in token");
         }
 
         try {
-            Long userId = Long.valueOf(id);
-            return userService.findById(userId);
+            return Long.valueOf(id);
         } catch (NumberFormatException e) {
             throw new AuthServiceException("Invalid user ID format in token");
         }
     }
 
 }
-
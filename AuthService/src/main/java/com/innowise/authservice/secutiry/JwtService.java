@@ -1,10 +1,9 @@
 package com.innowise.authservice.secutiry;
 
-import io.jsonwebtoken.Claims;
+import com.innowise.authservice.exception.InvalidResourceException;
+import com.innowise.authservice.model.dto.JwkSetDto;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.function.Function;
-
 /**
  * Interface defining JWT token operations.
  *
@@ -31,51 +30,28 @@ public interface JwtService {
     String generateRefreshToken(UserDetails user);
 
     /**
-     * Extracts the email (subject) from the given token.
+     * Generates a signed token this service presents when it calls other services.
+     * Its type is {@code service}, so this service's own endpoints never accept it as a user's access token.
      *
-     * @param token the JWT token
-     * @return email string
+     * @param service principal of the calling service
+     * @return JWT service token string
      */
-    String extractUserId(String token);
+    String generateServiceToken(UserDetails service);
 
     /**
-     * Extracts the role claim from the given token.
+     * Verifies the token signature and expiration once and extracts all claims used by the service.
      *
      * @param token the JWT token
-     * @return role string (e.g., "USER", "ADMIN")
+     * @return verified token claims
+     * @throws InvalidResourceException if the token is malformed, has an invalid signature or has expired
      */
-    String extractRole(String token);
+    VerifiedToken verify(String token);
 
     /**
-     * Validates the token against the expected email, role and expiration.
+     * Returns the public keys that verify tokens issued by this service.
+     * The set is empty when tokens are signed with a shared HMAC secret.
      *
-     * @param token the JWT token
-     * @param email the expected email
-     * @param role  the expected role
-     * @return true if valid, false otherwise
+     * @return JSON Web Key Set
      */
-    boolean isTokenValid(String token, String email, String role);
-
-    boolean isRefreshToken(String token);
-
-    String extractType(String token);
-
-    /**
-     * Extracts a specific claim from the token using a resolver function.
-     *
-     * @param token    the JWT token
-     * @param resolver function to extract desired claim
-     * @param <T>      type of the claim
-     * @return extracted claim value
-     */
-    <T> T extractClaim(String token, Function<Claims, T> resolver);
-
-    /**
-     * Check if the token has expired from the given token.
-     *
-     * @param token the JWT token
-     * @return true if expired, false otherwise
-     */
-    boolean isTokenExpired(String token);
+    JwkSetDto publicKeys();
 }
-
@@ -0,0 +1,46 @@
+package com.innowise.authservice.secutiry;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface defining the set of keys used to sign and verify tokens.
+ * New tokens are signed with the active key; tokens signed with retired keys
+ * stay valid until they expire, so a rotation never invalidates live sessions.
+ *
+ * @Author dshparko
+ * @Date 17.10.2026 18:05
+ * @Version 1.0
+ */
+public interface KeyRing {
+
+    /**
+     * Returns the key used to sign new tokens.
+     *
+     * @return active signing key
+     */
+    SigningKey activeKey();
+
+    /**
+     * Looks up the verification key for the {@code kid} header of a token.
+     * Tokens without a {@code kid} resolve to the legacy key, if one is configured.
+     *
+     * @param kid key identifier from the token header, may be {@code null}
+     * @return the matching key, or empty if the key is unknown or no longer trusted
+     */
+    Optional<SigningKey> findKey(String kid);
+
+    /**
+     * Returns every key currently trusted for verification, the active one included.
+     *
+     * @return trusted keys
+     */
+    List<SigningKey> keys();
+
+    /**
+     * Registers a callback invoked after the key set has been replaced.
+     *
+     * @param listener callback to run after every reload
+     */
+    void addReloadListener(Runnable listener);
+}
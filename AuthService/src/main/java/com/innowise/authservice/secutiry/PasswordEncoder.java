@@ -35,4 +35,13 @@ public interface PasswordEncoder {
      * @return true if the password matches, false otherwise
      */
     boolean matches(String rawPassword, String salt, String storedHash);
+
+    /**
+     * Checks whether the stored hash was produced with an algorithm other than the current one or with a lower
+     * cost, and should be replaced after the next successful {@link #matches}.
+     *
+     * @param storedHash the previously stored hash
+     * @return true if the password should be re-encoded, false otherwise
+     */
+    boolean needsRehash(String storedHash);
 }
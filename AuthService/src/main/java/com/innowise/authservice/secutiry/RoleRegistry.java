@@ -0,0 +1,23 @@
+package com.innowise.authservice.secutiry;
+
+import com.innowise.authservice.model.entity.Role;
+
+import java.util.Optional;
+
+/**
+ * Interface defining the in-memory registry of roles known to the service.
+ *
+ * @Author dshparko
+ * @Date 18.10.2026 19:00
+ * @Version 1.0
+ */
+public interface RoleRegistry {
+
+    /**
+     * Finds a role by its name without querying the database.
+     *
+     * @param roleName the name of the role (e.g., "USER", "ADMIN")
+     * @return an optional containing the role if it is registered
+     */
+    Optional<Role> findByName(String roleName);
+}
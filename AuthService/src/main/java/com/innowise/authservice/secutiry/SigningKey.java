@@ -0,0 +1,23 @@
+package com.innowise.authservice.secutiry;
+
+import com.innowise.authservice.model.dto.JsonWebKey;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+
+/**
+ * @ClassName SigningKey
+ * @Description Key material used to sign and verify tokens with a single algorithm.
+ * Asymmetric keys also carry the public JWK that is published for local verification.
+ * @Author dshparko
+ * @Date 17.10.2026 16:10
+ * @Version 1.0
+ */
+public record SigningKey(
+        String kid,
+        SignatureAlgorithm algorithm,
+        Key signingKey,
+        Key verificationKey,
+        JsonWebKey publicJwk
+) {
+}
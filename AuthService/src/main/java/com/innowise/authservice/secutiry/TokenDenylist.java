@@ -0,0 +1,31 @@
+package com.innowise.authservice.secutiry;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Interface defining the list of tokens revoked before their expiration.
+ *
+ * @Author dshparko
+ * @Date 18.10.2026 10:20
+ * @Version 1.0
+ */
+public interface TokenDenylist {
+
+    /**
+     * Checks whether the token with the given identifier has been revoked.
+     * Must not hit the database: this is called for every verified token.
+     *
+     * @param jti token identifier, may be {@code null} for tokens issued without one
+     * @return true if the token is revoked, false otherwise
+     */
+    boolean isRevoked(UUID jti);
+
+    /**
+     * Revokes the token until its expiration.
+     *
+     * @param jti       token identifier
+     * @param expiresAt token expiration, after which the revocation can be forgotten
+     */
+    void revoke(UUID jti, Instant expiresAt);
+}
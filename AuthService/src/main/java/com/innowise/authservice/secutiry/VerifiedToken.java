@@ -0,0 +1,33 @@
+package com.innowise.authservice.secutiry;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static com.innowise.authservice.secutiry.AuthConstant.REFRESH_TYPE;
+
+/**
+ * @ClassName VerifiedToken
+ * @Description Result of a single signature verification and claim extraction of a JWT.
+ * Consumers read the claims from here instead of re-parsing the raw token.
+ * @Author dshparko
+ * @Date 17.10.2026 12:10
+ * @Version 1.0
+ */
+public record VerifiedToken(
+        String userId,
+        String role,
+        String type,
+        Instant expiresAt,
+        UUID jti,
+        Boolean active,
+        Instant issuedAt
+) {
+
+    public boolean isRefresh() {
+        return REFRESH_TYPE.equals(type);
+    }
+
+    public boolean isExpired() {
+        return expiresAt == null || !expiresAt.isAfter(Instant.now());
+    }
+}
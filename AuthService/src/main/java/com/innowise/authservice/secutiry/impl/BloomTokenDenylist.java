@@ -0,0 +1,150 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.exception.ServiceUnavailableException;
+import com.innowise.authservice.model.entity.RevokedToken;
+import com.innowise.authservice.repository.RevokedTokenRepository;
+import com.innowise.authservice.secutiry.TokenDenylist;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @ClassName BloomTokenDenylist
+ * @Description Token denylist persisted in Postgres and served from memory.
+ * A {@link BloomFilter} answers the common "not revoked" case without touching the exact set; positives are
+ * confirmed against a {@link RevokedTokenTable}, which grows with the number of revocations up to
+ * {@code jwt.revocation.max-memory}. Revocations made by other instances are picked up
+ * periodically, and entries are dropped from memory and the database once their tokens expire.
+ * @Author dshparko
+ * @Date 18.10.2026 11:00
+ * @Version 1.0
+ */
+@Slf4j
+@Component
+public class BloomTokenDenylist implements TokenDenylist {
+    private static final String REVOCATION_LIST_FULL = "Revocation list is full, retry later";
+
+    private final RevokedTokenRepository repository;
+    private final RevokedTokenTable table;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int maxEntries;
+    private final Duration syncOverlap;
+
+    private volatile BloomFilter filter;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public BloomTokenDenylist(
+            RevokedTokenRepository repository,
+            @Value("${jwt.revocation.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${jwt.revocation.max-memory:128MB}") DataSize maxMemory,
+            @Value("${jwt.revocation.sync-overlap:PT5S}") Duration syncOverlap) {
+        this.repository = repository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxEntries = RevokedTokenTable.maxEntriesFor(maxMemory.toBytes());
+        this.syncOverlap = syncOverlap;
+        this.table = new RevokedTokenTable();
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * Loads revocations of tokens that have not expired yet.
+     */
+    @PostConstruct
+    public void load() {
+        sync();
+        log.info("Loaded {} revoked tokens, room for {}", table.size(), maxEntries);
+    }
+
+    @Override
+    public boolean isRevoked(UUID jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return table.contains(jti, Instant.now().getEpochSecond());
+    }
+
+    /**
+     * @throws ServiceUnavailableException if the in-memory list has used up {@code jwt.revocation.max-memory};
+     *                                     room is made as revoked tokens expire
+     */
+    @Override
+    public void revoke(UUID jti, Instant expiresAt) {
+        if (isFull()) {
+            throw new ServiceUnavailableException(REVOCATION_LIST_FULL);
+        }
+        repository.insertIfAbsent(jti, expiresAt);
+        if (!remember(jti, expiresAt)) {
+            // Stored already, so the next sync after a prune picks it up
+            throw new ServiceUnavailableException(REVOCATION_LIST_FULL);
+        }
+    }
+
+    /**
+     * Picks up revocations made by other instances. {@code revoked_at} is stamped by the database, and the
+     * window starts at the latest one seen so far rather than at this instance's clock, so clock skew between
+     * instances cannot hide a revocation. The window overlaps the previous one to catch revocations committed
+     * after a later one was already read; re-adding a known entry is a no-op. When the list is full the window
+     * is not advanced, so the revocations left out are picked up by a sync after the next prune.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:PT10S}",
+            initialDelayString = "${jwt.revocation.sync-interval:PT10S}")
+    public void sync() {
+        List<RevokedToken> revoked = repository.findByRevokedAtAfterAndExpiresAtAfter(
+                lastSync.minus(syncOverlap), Instant.now());
+        Instant latest = lastSync;
+        for (RevokedToken token : revoked) {
+            if (!remember(token.getJti(), token.getExpiresAt())) {
+                log.error("Revocation list is full with {} tokens, newer revocations wait for the next prune",
+                        table.size());
+                return;
+            }
+            if (token.getRevokedAt() != null && token.getRevokedAt().isAfter(latest)) {
+                latest = token.getRevokedAt();
+            }
+        }
+        lastSync = latest;
+    }
+
+    /**
+     * Forgets revocations of expired tokens and rebuilds the filter so that it does not saturate over time.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval:PT1H}",
+            initialDelayString = "${jwt.revocation.prune-interval:PT1H}")
+    public void prune() {
+        Instant now = Instant.now();
+        int deleted = repository.deleteExpired(now);
+        synchronized (this) {
+            BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+            table.pruneExpired(now.getEpochSecond(), rebuilt::add);
+            filter = rebuilt;
+        }
+        log.debug("Pruned revoked tokens: {} deleted, {} kept", deleted, table.size());
+    }
+
+    /**
+     * @return false if the token is not known yet and the list has no room for it
+     */
+    private synchronized boolean remember(UUID jti, Instant expiresAt) {
+        if (isFull() && !table.contains(jti, Long.MIN_VALUE)) {
+            return false;
+        }
+        table.add(jti, expiresAt.getEpochSecond());
+        filter.add(jti);
+        return true;
+    }
+
+    private boolean isFull() {
+        return table.size() >= maxEntries;
+    }
+}
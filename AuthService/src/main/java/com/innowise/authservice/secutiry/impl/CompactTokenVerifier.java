@@ -0,0 +1,442 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.exception.AuthServiceException;
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.secutiry.KeyRing;
+import com.innowise.authservice.secutiry.SigningKey;
+import com.innowise.authservice.secutiry.VerifiedToken;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static com.innowise.authservice.secutiry.AuthConstant.ACCESS_TYPE;
+import static com.innowise.authservice.secutiry.AuthConstant.ACTIVE_CLAIM;
+import static com.innowise.authservice.secutiry.AuthConstant.REFRESH_TYPE;
+
+/**
+ * @ClassName CompactTokenVerifier
+ * @Description Allocation-light verifier for the HS256 tokens this service issues itself.
+ * Base64url segments are decoded into per-thread buffers, the HMAC is computed with a per-thread {@link Mac}
+ * and only the claims the service reads are scanned. Anything it does not recognise (other algorithms,
+ * unknown header fields or claims, escaped strings, expired tokens) yields {@code null} so that the caller
+ * falls back to the full JJWT parser, which produces the proper error.
+ * @Author dshparko
+ * @Date 17.10.2026 20:15
+ * @Version 1.0
+ */
+final class CompactTokenVerifier {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int HMAC_LENGTH = 32;
+    private static final int MAX_TOKEN_LENGTH = 4096;
+    private static final byte[] BASE64_URL = new byte[128];
+
+    private static final byte[] ALG = bytes("alg");
+    private static final byte[] KID = bytes("kid");
+    private static final byte[] TYP = bytes("typ");
+    private static final byte[] HS256 = bytes(SignatureAlgorithm.HS256.getValue());
+    private static final byte[] SUB = bytes("sub");
+    private static final byte[] ROLE = bytes("role");
+    private static final byte[] TYPE = bytes("type");
+    private static final byte[] EXP = bytes("exp");
+    private static final byte[] IAT = bytes("iat");
+    private static final byte[] JTI = bytes("jti");
+    private static final byte[] ACTIVE = bytes(ACTIVE_CLAIM);
+    private static final byte[] TRUE = bytes("true");
+    private static final byte[] FALSE = bytes("false");
+    private static final int UUID_LENGTH = 36;
+    private static final byte[] ACCESS = bytes(ACCESS_TYPE);
+    private static final byte[] REFRESH = bytes(REFRESH_TYPE);
+    private static final RoleEnum[] ROLES = RoleEnum.values();
+    private static final byte[][] ROLE_NAMES = Arrays.stream(ROLES).map(role -> bytes(role.name())).toArray(byte[][]::new);
+
+    static {
+        Arrays.fill(BASE64_URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final KeyRing keyRing;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    CompactTokenVerifier(KeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    /**
+     * Verifies the token if it has exactly the shape this service issues.
+     *
+     * @param token raw JWT
+     * @return verified token, or {@code null} if the token must go through the full parser
+     */
+    VerifiedToken tryVerify(String token) {
+        int length = token.length();
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (length > MAX_TOKEN_LENGTH || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        State s = state.get();
+        SigningKey key = resolveKey(token, 0, firstDot, s);
+        if (key == null || !verifySignature(token, secondDot, key.signingKey(), s)) {
+            return null;
+        }
+        return readClaims(token, firstDot + 1, secondDot, s);
+    }
+
+    private SigningKey resolveKey(String token, int from, int to, State s) {
+        int length = decode(token, from, to, s.decoded);
+        if (length < 0) {
+            return null;
+        }
+
+        boolean hs256 = false;
+        String kid = null;
+        int pos = objectStart(s.decoded, 0, length);
+        while (pos >= 0 && pos < length && s.decoded[pos] != '}') {
+            int keyStart = pos + 1;
+            int keyEnd = stringEnd(s.decoded, keyStart, length);
+            int valueStart = valueStart(s.decoded, keyEnd, length);
+            if (valueStart < 0 || s.decoded[valueStart] != '"') {
+                return null;
+            }
+            int valueEnd = stringEnd(s.decoded, valueStart + 1, length);
+            if (valueEnd < 0) {
+                return null;
+            }
+
+            if (matches(s.decoded, keyStart, keyEnd, ALG)) {
+                hs256 = matches(s.decoded, valueStart + 1, valueEnd, HS256);
+            } else if (matches(s.decoded, keyStart, keyEnd, KID)) {
+                kid = new String(s.decoded, valueStart + 1, valueEnd - valueStart - 1, StandardCharsets.US_ASCII);
+            } else if (!matches(s.decoded, keyStart, keyEnd, TYP)) {
+                return null;
+            }
+            pos = nextField(s.decoded, valueEnd + 1, length);
+        }
+        if (pos < 0 || !hs256) {
+            return null;
+        }
+
+        SigningKey key = keyRing.findKey(kid).orElse(null);
+        return key != null && key.algorithm() == SignatureAlgorithm.HS256 ? key : null;
+    }
+
+    private boolean verifySignature(String token, int secondDot, Key key, State s) {
+        byte[] input = s.input(secondDot);
+        for (int i = 0; i < secondDot; i++) {
+            char c = token.charAt(i);
+            if (c > 127) {
+                return false;
+            }
+            input[i] = (byte) c;
+        }
+
+        try {
+            Mac mac = s.mac(key);
+            mac.update(input, 0, secondDot);
+            mac.doFinal(s.expected, 0);
+        } catch (ShortBufferException e) {
+            return false;
+        }
+
+        int length = decode(token, secondDot + 1, token.length(), s.decoded);
+        if (length != HMAC_LENGTH) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < HMAC_LENGTH; i++) {
+            diff |= s.expected[i] ^ s.decoded[i];
+        }
+        return diff == 0;
+    }
+
+    private VerifiedToken readClaims(String token, int from, int to, State s) {
+        byte[] json = s.decoded;
+        int length = decode(token, from, to, json);
+        if (length < 0) {
+            return null;
+        }
+
+        String subject = null;
+        String role = null;
+        String type = null;
+        UUID jti = null;
+        Boolean active = null;
+        long expiration = -1;
+        long issuedAt = -1;
+
+        int pos = objectStart(json, 0, length);
+        while (pos >= 0 && pos < length && json[pos] != '}') {
+            int keyStart = pos + 1;
+            int keyEnd = stringEnd(json, keyStart, length);
+            int valueStart = valueStart(json, keyEnd, length);
+            if (valueStart < 0) {
+                return null;
+            }
+
+            int valueEnd;
+            if (json[valueStart] == '"') {
+                valueEnd = stringEnd(json, valueStart + 1, length);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                if (matches(json, keyStart, keyEnd, SUB)) {
+                    subject = new String(json, valueStart + 1, valueEnd - valueStart - 1, StandardCharsets.UTF_8);
+                } else if (matches(json, keyStart, keyEnd, ROLE)) {
+                    role = role(json, valueStart + 1, valueEnd);
+                } else if (matches(json, keyStart, keyEnd, TYPE)) {
+                    type = type(json, valueStart + 1, valueEnd);
+                } else if (matches(json, keyStart, keyEnd, JTI)) {
+                    jti = uuid(json, valueStart + 1, valueEnd);
+                    if (jti == null) {
+                        return null;
+                    }
+                } else {
+                    return null;
+                }
+                valueEnd++;
+            } else if (json[valueStart] == 't' || json[valueStart] == 'f') {
+                boolean value = json[valueStart] == 't';
+                valueEnd = valueStart + (value ? TRUE.length : FALSE.length);
+                if (valueEnd > length || !matches(json, valueStart, valueEnd, value ? TRUE : FALSE)
+                        || !matches(json, keyStart, keyEnd, ACTIVE)) {
+                    return null;
+                }
+                active = value;
+            } else {
+                valueEnd = numberEnd(json, valueStart, length);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                if (matches(json, keyStart, keyEnd, EXP)) {
+                    expiration = parseLong(json, valueStart, valueEnd);
+                } else if (matches(json, keyStart, keyEnd, IAT)) {
+                    issuedAt = parseLong(json, valueStart, valueEnd);
+                } else {
+                    return null;
+                }
+            }
+            pos = nextField(json, valueEnd, length);
+        }
+
+        if (pos < 0 || expiration < 0 || expiration * 1000 <= System.currentTimeMillis()) {
+            return null;
+        }
+        return new VerifiedToken(subject, role, type, Instant.ofEpochSecond(expiration), jti, active,
+                issuedAt >= 0 ? Instant.ofEpochSecond(issuedAt) : null);
+    }
+
+    private static String role(byte[] json, int from, int to) {
+        for (int i = 0; i < ROLES.length; i++) {
+            if (matches(json, from, to, ROLE_NAMES[i])) {
+                return ROLES[i].name();
+            }
+        }
+        return new String(json, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private static String type(byte[] json, int from, int to) {
+        if (matches(json, from, to, ACCESS)) {
+            return ACCESS_TYPE;
+        }
+        if (matches(json, from, to, REFRESH)) {
+            return REFRESH_TYPE;
+        }
+        return new String(json, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the canonical 8-4-4-4-12 hex form of a UUID without going through {@link UUID#fromString}.
+     *
+     * @return the UUID, or {@code null} if the range is not a canonical UUID
+     */
+    private static UUID uuid(byte[] json, int from, int to) {
+        if (to - from != UUID_LENGTH) {
+            return null;
+        }
+        long msb = 0;
+        long lsb = 0;
+        int digits = 0;
+        for (int i = from; i < to; i++) {
+            int offset = i - from;
+            if (offset == 8 || offset == 13 || offset == 18 || offset == 23) {
+                if (json[i] != '-') {
+                    return null;
+                }
+                continue;
+            }
+            int value = Character.digit(json[i], 16);
+            if (value < 0) {
+                return null;
+            }
+            if (digits++ < 16) {
+                msb = (msb << 4) | value;
+            } else {
+                lsb = (lsb << 4) | value;
+            }
+        }
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Decodes an unpadded base64url range of the token into {@code out}.
+     *
+     * @return number of decoded bytes, or -1 if the range is not valid base64url or does not fit
+     */
+    private static int decode(String token, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1 || length * 3 / 4 > out.length) {
+            return -1;
+        }
+        int written = 0;
+        int buffer = 0;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            char c = token.charAt(i);
+            int value = c < 128 ? BASE64_URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                out[written++] = (byte) (buffer >> bits);
+            }
+        }
+        return written;
+    }
+
+    private static int objectStart(byte[] json, int pos, int length) {
+        pos = skipWhitespace(json, pos, length);
+        if (pos >= length || json[pos] != '{') {
+            return -1;
+        }
+        pos = skipWhitespace(json, pos + 1, length);
+        return pos < length && (json[pos] == '"' || json[pos] == '}') ? pos : -1;
+    }
+
+    /**
+     * Returns the index of the closing quote of a string starting at {@code pos}, or -1 for escaped
+     * or unterminated strings.
+     */
+    private static int stringEnd(byte[] json, int pos, int length) {
+        for (int i = pos; i < length; i++) {
+            if (json[i] == '"') {
+                return i;
+            }
+            if (json[i] == '\\') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int valueStart(byte[] json, int keyEnd, int length) {
+        if (keyEnd < 0) {
+            return -1;
+        }
+        int pos = skipWhitespace(json, keyEnd + 1, length);
+        if (pos >= length || json[pos] != ':') {
+            return -1;
+        }
+        pos = skipWhitespace(json, pos + 1, length);
+        return pos < length ? pos : -1;
+    }
+
+    private static int numberEnd(byte[] json, int pos, int length) {
+        int i = pos;
+        while (i < length && json[i] >= '0' && json[i] <= '9') {
+            i++;
+        }
+        return i > pos && i - pos <= 18 ? i : -1;
+    }
+
+    private static int nextField(byte[] json, int pos, int length) {
+        pos = skipWhitespace(json, pos, length);
+        if (pos >= length) {
+            return -1;
+        }
+        if (json[pos] == '}') {
+            return pos;
+        }
+        if (json[pos] != ',') {
+            return -1;
+        }
+        pos = skipWhitespace(json, pos + 1, length);
+        return pos < length && json[pos] == '"' ? pos : -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int pos, int length) {
+        while (pos < length && (json[pos] == ' ' || json[pos] == '\n' || json[pos] == '\r' || json[pos] == '\t')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static long parseLong(byte[] json, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (json[i] - '0');
+        }
+        return value;
+    }
+
+    private static boolean matches(byte[] json, int from, int to, byte[] expected) {
+        return Arrays.equals(json, from, to, expected, 0, expected.length);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Per-thread buffers and {@link Mac}; the Mac is re-initialised only when the signing key changes.
+     */
+    private static final class State {
+        private final byte[] expected = new byte[HMAC_LENGTH];
+        private final byte[] decoded = new byte[MAX_TOKEN_LENGTH];
+        private byte[] input = new byte[512];
+        private final Mac mac;
+        private Key macKey;
+
+        State() {
+            try {
+                mac = Mac.getInstance(HMAC_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new AuthServiceException("Unable to initialize token verifier: " + HMAC_ALGORITHM +
+                        " algorithm is not available", e);
+            }
+        }
+
+        byte[] input(int length) {
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+            return input;
+        }
+
+        Mac mac(Key key) {
+            if (macKey != key) {
+                try {
+                    mac.init(key);
+                } catch (InvalidKeyException e) {
+                    throw new AuthServiceException("Invalid HMAC key for token verification", e);
+                }
+                macKey = key;
+            }
+            return mac;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.innowise.authservice.secutiry.impl;
 
-import com.innowise.authservice.model.entity.User;
 import com.innowise.authservice.repository.CredentialRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,9 +22,9 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = credentialRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found")).getUser();
-        return UserPrincipal.of(user);
+        return credentialRepository.findLoginByEmail(email)
+                .map(UserPrincipal::of)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 }
 
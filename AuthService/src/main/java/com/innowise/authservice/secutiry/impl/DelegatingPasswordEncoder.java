@@ -0,0 +1,57 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.secutiry.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * @ClassName DelegatingPasswordEncoder
+ * @Description Password encoder used by the services. New hashes are produced by the configured encoder;
+ * stored hashes are verified by the encoder that produced them, recognised by their prefix.
+ * Hashes without a prefix are legacy single-round SHA-256.
+ * @Author dshparko
+ * @Date 18.10.2026 15:30
+ * @Version 1.0
+ */
+@Primary
+@Component
+public class DelegatingPasswordEncoder implements PasswordEncoder {
+    private final Pbkdf2PasswordEncoder pbkdf2;
+    private final SaltedPasswordEncoder legacy;
+    private final PasswordEncoder current;
+
+    public DelegatingPasswordEncoder(
+            Pbkdf2PasswordEncoder pbkdf2,
+            SaltedPasswordEncoder legacy,
+            @Value("${password.encoder:pbkdf2}") String encoder) {
+        this.pbkdf2 = pbkdf2;
+        this.legacy = legacy;
+        this.current = switch (encoder) {
+            case "pbkdf2" -> pbkdf2;
+            case "sha256" -> legacy;
+            default -> throw new IllegalArgumentException("Unsupported password encoder: " + encoder);
+        };
+    }
+
+    public String generateSalt() {
+        return current.generateSalt();
+    }
+
+    public String encode(String rawPassword, String salt) {
+        return current.encode(rawPassword, salt);
+    }
+
+    public boolean matches(String rawPassword, String salt, String storedHash) {
+        return encoderFor(storedHash).matches(rawPassword, salt, storedHash);
+    }
+
+    public boolean needsRehash(String storedHash) {
+        PasswordEncoder stored = encoderFor(storedHash);
+        return stored != current || stored.needsRehash(storedHash);
+    }
+
+    private PasswordEncoder encoderFor(String storedHash) {
+        return storedHash != null && storedHash.startsWith(Pbkdf2PasswordEncoder.ALGORITHM_PREFIX) ? pbkdf2 : legacy;
+    }
+}
@@ -0,0 +1,63 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.entity.Role;
+import com.innowise.authservice.repository.RoleRepository;
+import com.innowise.authservice.secutiry.RoleRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * @ClassName EnumRoleRegistry
+ * @Description Role registry loaded from the {@code roles} table at startup and kept in an {@link EnumMap}.
+ * Roles are loaded only once at startup; they change only through Liquibase migrations, which need a restart anyway.
+ * @Author dshparko
+ * @Date 18.10.2026 19:05
+ * @Version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnumRoleRegistry implements RoleRegistry {
+    private final RoleRepository roleRepository;
+
+    private Map<RoleEnum, Role> roles = new EnumMap<>(RoleEnum.class);
+
+    @PostConstruct
+    void load() {
+        Map<RoleEnum, Role> loaded = new EnumMap<>(RoleEnum.class);
+        for (Role role : roleRepository.findAll()) {
+            parse(role.getName()).ifPresentOrElse(
+                    key -> loaded.put(key, role),
+                    () -> log.warn("Ignoring role '{}' that has no RoleEnum constant", role.getName()));
+        }
+        for (RoleEnum key : RoleEnum.values()) {
+            if (!loaded.containsKey(key)) {
+                log.warn("Role {} is missing from the roles table", key);
+            }
+        }
+        roles = loaded;
+    }
+
+    @Override
+    public Optional<Role> findByName(String roleName) {
+        return parse(roleName).map(roles::get);
+    }
+
+    private static Optional<RoleEnum> parse(String roleName) {
+        if (roleName == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(RoleEnum.valueOf(roleName));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
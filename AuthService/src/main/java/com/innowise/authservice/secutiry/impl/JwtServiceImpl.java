@@ -1,12 +1,25 @@
 package com.innowise.authservice.secutiry.impl;
 
+import com.innowise.authservice.exception.InvalidResourceException;
 import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.dto.JwkSetDto;
 import com.innowise.authservice.secutiry.JwtService;
+import com.innowise.authservice.secutiry.KeyRing;
+import com.innowise.authservice.secutiry.SigningKey;
+import com.innowise.authservice.secutiry.TokenDenylist;
+import com.innowise.authservice.secutiry.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.jackson.io.JacksonDeserializer;
+import io.jsonwebtoken.jackson.io.JacksonSerializer;
+import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,10 +29,15 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Objects;
+import java.util.UUID;
 
 import static com.innowise.authservice.secutiry.AuthConstant.ACCESS_TYPE;
+import static com.innowise.authservice.secutiry.AuthConstant.ACTIVE_CLAIM;
 import static com.innowise.authservice.secutiry.AuthConstant.REFRESH_TYPE;
+import static com.innowise.authservice.secutiry.AuthConstant.ROLE_CLAIM;
+import static com.innowise.authservice.secutiry.AuthConstant.SERVICE_TYPE;
+import static com.innowise.authservice.secutiry.AuthConstant.TYPE_CLAIM;
 
 /**
  * @ClassName JwtService
@@ -30,14 +48,44 @@ import static com.innowise.authservice.secutiry.AuthConstant.REFRESH_TYPE;
  */
 @Service
 public class JwtServiceImpl implements JwtService {
-    @Value("${jwt.secret}")
-    private String secretKey;
-
-    @Value("${jwt.access-token.expiration}")
-    private long accessTokenExpirationMs;
+    private static final String KID_HEADER = "kid";
+
+    private final Serializer<Map<String, ?>> serializer = new JacksonSerializer<>();
+
+    private final KeyRing keyRing;
+    private final JwtParser parser;
+    private final CompactTokenVerifier compactVerifier;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenDenylist denylist;
+    private final long accessTokenExpirationMs;
+    private final long refreshTokenExpirationMs;
+
+    public JwtServiceImpl(
+            KeyRing keyRing,
+            @Value("${jwt.access-token.expiration}") long accessTokenExpirationMs,
+            @Value("${jwt.refresh-token.expiration}") long refreshTokenExpirationMs,
+            @Value("${jwt.fast-path.enabled:false}") boolean fastPathEnabled,
+            VerifiedTokenCache tokenCache,
+            TokenDenylist denylist) {
+        this.keyRing = keyRing;
+        this.compactVerifier = fastPathEnabled ? new CompactTokenVerifier(keyRing) : null;
+        this.tokenCache = tokenCache;
+        this.denylist = denylist;
+        this.accessTokenExpirationMs = accessTokenExpirationMs;
+        this.refreshTokenExpirationMs = refreshTokenExpirationMs;
+        this.parser = Jwts.parserBuilder()
+                .deserializeJsonWith(new JacksonDeserializer<>())
+                .setSigningKeyResolver(new KeyRingResolver(keyRing))
+                .build();
+        keyRing.addReloadListener(tokenCache::invalidateAll);
+    }
 
-    @Value("${jwt.refresh-token.expiration}")
-    private long refreshTokenExpirationMs;
+    public JwkSetDto publicKeys() {
+        return new JwkSetDto(keyRing.keys().stream()
+                .map(SigningKey::publicJwk)
+                .filter(Objects::nonNull)
+                .toList());
+    }
 
     public String generateAccessToken(UserDetails user) {
         return buildToken(user, accessTokenExpirationMs, ACCESS_TYPE);
@@ -47,24 +95,32 @@ public class JwtServiceImpl implements JwtService {
         return buildToken(user, refreshTokenExpirationMs, REFRESH_TYPE);
     }
 
+    public String generateServiceToken(UserDetails service) {
+        return buildToken(service, accessTokenExpirationMs, SERVICE_TYPE);
+    }
+
     private String buildToken(UserDetails user, long expirationMs, String tokenType) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMs);
         Map<String, Object> claims = buildClaims(user, tokenType);
 
-        return Jwts.builder()
+        SigningKey key = keyRing.activeKey();
+
+        JwtBuilder builder = Jwts.builder()
+                .serializeToJsonWith(serializer)
                 .setClaims(claims)
                 .setSubject(extractUserId(user))
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
-                .setExpiration(expiry)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(expiry);
+        if (key.kid() != null) {
+            builder.setHeaderParam(KID_HEADER, key.kid());
+        }
+        return builder
+                .signWith(key.signingKey(), key.algorithm())
                 .compact();
     }
 
-    public boolean isRefreshToken(String token) {
-        return REFRESH_TYPE.equals(extractType(token));
-    }
-
     private String extractUserId(UserDetails user) {
         if (user instanceof UserPrincipal principal) {
             return principal.getId();
@@ -79,56 +135,87 @@ public class JwtServiceImpl implements JwtService {
                 .findFirst()
                 .orElse(RoleEnum.USER.name());
 
-        claims.put("role", role);
-        claims.put("type", tokenType);
+        claims.put(ROLE_CLAIM, role);
+        claims.put(TYPE_CLAIM, tokenType);
+        claims.put(ACTIVE_CLAIM, user.isEnabled());
         return claims;
     }
 
 
-    public String extractUserId(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    public String extractType(String token) {
-        return extractAllClaims(token).get("type", String.class);
-    }
-
-    public boolean isTokenValid(String token, String expectedId, String expectedRole) {
-        String extractedId = extractUserId(token);
-        String extractedRole = extractRole(token);
-
-        return extractedId != null
-                && extractedRole != null
-                && extractedId.equals(expectedId)
-                && extractedRole.equals(expectedRole)
-                && !isTokenExpired(token);
+    public VerifiedToken verify(String token) {
+        VerifiedToken verified = tokenCache.get(token, this::parse);
+        if (denylist.isRevoked(verified.jti())) {
+            throw new InvalidResourceException("Token has been revoked");
+        }
+        return verified;
     }
 
-    public boolean isTokenExpired(String token) {
-        Date expiration = extractClaim(token, Claims::getExpiration);
-        return expiration.before(new Date());
-    }
+    private VerifiedToken parse(String token) {
+        if (compactVerifier != null) {
+            VerifiedToken verified = compactVerifier.tryVerify(token);
+            if (verified != null) {
+                return verified;
+            }
+        }
 
-    public <T> T extractClaim(String token, Function<Claims, T> resolver) {
         Claims claims = extractAllClaims(token);
-        return resolver.apply(claims);
+        Date expiration = claims.getExpiration();
+        Date issuedAt = claims.getIssuedAt();
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get(ROLE_CLAIM, String.class),
+                claims.get(TYPE_CLAIM, String.class),
+                expiration != null ? expiration.toInstant() : null,
+                extractJti(claims),
+                claims.get(ACTIVE_CLAIM, Boolean.class),
+                issuedAt != null ? issuedAt.toInstant() : null
+        );
     }
 
-    public String extractRole(String token) {
-        return extractAllClaims(token).get("role", String.class);
+    private UUID extractJti(Claims claims) {
+        String id = claims.getId();
+        if (id == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidResourceException("Token is invalid", e);
+        }
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        try {
+            return parser
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (ExpiredJwtException e) {
+            throw new InvalidResourceException("Token has expired", e);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidResourceException("Token is invalid", e);
+        }
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Resolves the verification key by the {@code kid} header and rejects tokens whose
+     * {@code alg} header does not match the algorithm the key was registered with.
+     */
+    private static final class KeyRingResolver extends SigningKeyResolverAdapter {
+        private final KeyRing keyRing;
+
+        KeyRingResolver(KeyRing keyRing) {
+            this.keyRing = keyRing;
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            SigningKey key = keyRing.findKey(header.getKeyId())
+                    .orElseThrow(() -> new SignatureException("Unknown signing key: " + header.getKeyId()));
+            if (!key.algorithm().getValue().equals(header.getAlgorithm())) {
+                throw new SignatureException("Unexpected signing algorithm: " + header.getAlgorithm());
+            }
+            return key.verificationKey();
+        }
     }
 }
-
@@ -0,0 +1,110 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.model.dto.PasswordHashCalibration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * @ClassName PasswordHashCalibrator
+ * @Description Measures PBKDF2 speed on the current host and sets the iteration count that takes about the
+ * configured target time per hash, never going below the configured security floor.
+ * Runs once the application is ready when enabled, and on demand through the actuator.
+ * @Author dshparko
+ * @Date 18.10.2026 16:20
+ * @Version 1.0
+ */
+@Slf4j
+@Component
+public class PasswordHashCalibrator {
+    private static final String ALGORITHM = "pbkdf2-sha256";
+    private static final int PROBE_ITERATIONS = 20_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int SAMPLES = 7;
+    private static final int ROUNDING = 1_000;
+
+    private final Pbkdf2PasswordEncoder encoder;
+    private final boolean enabled;
+    private final int minIterations;
+    private final int maxIterations;
+    private volatile Duration target;
+    private volatile PasswordHashCalibration last;
+
+    public PasswordHashCalibrator(
+            Pbkdf2PasswordEncoder encoder,
+            @Value("${password.pbkdf2.calibration.enabled:false}") boolean enabled,
+            @Value("${password.pbkdf2.calibration.target:50ms}") Duration target,
+            @Value("${password.pbkdf2.calibration.min-iterations:310000}") int minIterations,
+            @Value("${password.pbkdf2.calibration.max-iterations:10000000}") int maxIterations) {
+        this.encoder = encoder;
+        this.enabled = enabled;
+        this.target = target;
+        this.minIterations = minIterations;
+        this.maxIterations = maxIterations;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrateOnStartup() {
+        if (enabled) {
+            calibrate(target);
+        }
+    }
+
+    /**
+     * Measures the host and applies the iteration count that meets the target.
+     *
+     * @param newTarget desired time per hash
+     * @return measured speed and the applied iteration count
+     */
+    public synchronized PasswordHashCalibration calibrate(Duration newTarget) {
+        double nanosPerIteration = measureNanosPerIteration();
+        long rounded = Math.round(newTarget.toNanos() / nanosPerIteration / ROUNDING) * ROUNDING;
+        int iterations = (int) Math.max(minIterations, Math.min(maxIterations, rounded));
+        encoder.setIterations(iterations);
+        target = newTarget;
+
+        double millisPerHash = nanosPerIteration * iterations / 1_000_000;
+        last = new PasswordHashCalibration(ALGORITHM, iterations, newTarget.toMillis(), millisPerHash,
+                1_000 / millisPerHash, Runtime.getRuntime().availableProcessors(), Instant.now());
+        log.info("Password hashing calibrated: {} iterations, {} ms per hash, {} hashes/s per core (target {} ms)",
+                iterations, "%.1f".formatted(millisPerHash), "%.1f".formatted(last.hashesPerSecondPerCore()),
+                newTarget.toMillis());
+        return last;
+    }
+
+    public Duration getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the latest calibration, or {@code null} if none has run yet
+     */
+    public PasswordHashCalibration getLast() {
+        return last;
+    }
+
+    /**
+     * Times single-threaded hashes at a fixed probe cost and returns the median time per iteration.
+     */
+    private double measureNanosPerIteration() {
+        Pbkdf2PasswordEncoder probe = new Pbkdf2PasswordEncoder(PROBE_ITERATIONS);
+        String salt = probe.generateSalt();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            probe.encode("calibration", salt);
+        }
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration", salt);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return (double) samples[SAMPLES / 2] / PROBE_ITERATIONS;
+    }
+}
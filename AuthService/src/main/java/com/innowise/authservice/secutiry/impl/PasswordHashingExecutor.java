@@ -0,0 +1,165 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.exception.AuthServiceException;
+import com.innowise.authservice.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * @ClassName PasswordHashingExecutor
+ * @Description Runs deliberately slow password hashing on a fixed pool sized to the CPU cores with a bounded queue,
+ * so that hashing cannot take the CPU away from token validation on the request threads.
+ * When the queue is full the caller fails fast with {@link ServiceUnavailableException} instead of waiting.
+ * @Author dshparko
+ * @Date 18.10.2026 14:20
+ * @Version 1.0
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+    private static final String POOL_NAME = "password.hashing";
+
+    private final ThreadPoolExecutor executor;
+    private final int poolSize;
+
+    public PasswordHashingExecutor(
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        meterRegistry.ifAvailable(registry -> ExecutorServiceMetrics.monitor(registry, executor, POOL_NAME, List.of()));
+    }
+
+    /**
+     * Runs the task on the hashing pool and waits for its result.
+     *
+     * @param task hashing work
+     * @return task result
+     * @throws ServiceUnavailableException if the pool and its queue are saturated
+     */
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Password hashing capacity exhausted, retry later", e);
+        }
+
+        return await(future);
+    }
+
+    /**
+     * Runs the tasks in parallel on the hashing pool and waits for all results. At most one task per pool
+     * thread is in flight at a time, so bulk work leaves the queue free for interactive requests; when
+     * the pool is saturated anyway the task runs on the calling thread instead of failing.
+     *
+     * @param tasks hashing work
+     * @return results in task order
+     */
+    public <T> List<T> executeAll(List<? extends Supplier<T>> tasks) {
+        Semaphore inFlight = new Semaphore(poolSize);
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Supplier<T> task : tasks) {
+                inFlight.acquire();
+                try {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return task.get();
+                        } finally {
+                            inFlight.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    futures.add(CompletableFuture.completedFuture(task.get()));
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new AuthServiceException("Interrupted while waiting for password hashing", e);
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthServiceException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new AuthServiceException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Queues the task on the hashing pool without waiting for it. Background work is best effort:
+     * it is dropped when the pool is saturated and its failures are only logged.
+     *
+     * @param task hashing work
+     * @return true if the task was accepted, false if the pool and its queue are saturated
+     */
+    public boolean submit(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("Background password hashing task failed", e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
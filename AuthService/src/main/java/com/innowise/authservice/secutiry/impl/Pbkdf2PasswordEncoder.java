@@ -0,0 +1,133 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.exception.AuthServiceException;
+import com.innowise.authservice.secutiry.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * @ClassName Pbkdf2PasswordEncoder
+ * @Description Encodes and verifies passwords with PBKDF2-HMAC-SHA256 and a configurable iteration count.
+ * Hashes are stored as {@code $pbkdf2-sha256$v=1$i=<iterations>$<base64 hash>}, so raising the iteration
+ * count does not invalidate existing hashes.
+ * @Author dshparko
+ * @Date 18.10.2026 14:40
+ * @Version 1.0
+ */
+@Component
+public class Pbkdf2PasswordEncoder implements PasswordEncoder {
+    static final String ALGORITHM_PREFIX = "$pbkdf2-sha256$";
+    static final String PREFIX = ALGORITHM_PREFIX + "v=1$i=";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_BITS = 256;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final ThreadLocal<SecretKeyFactory> keyFactory =
+            ThreadLocal.withInitial(Pbkdf2PasswordEncoder::newKeyFactory);
+    private volatile int iterations;
+
+    public Pbkdf2PasswordEncoder(@Value("${password.pbkdf2.iterations:600000}") int iterations) {
+        setIterations(iterations);
+        newKeyFactory();
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Changes the iteration count used for new hashes. Existing hashes keep verifying with the count
+     * they were produced with and are upgraded on the next login.
+     *
+     * @param iterations new iteration count
+     */
+    public void setIterations(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("PBKDF2 iteration count must be positive");
+        }
+        this.iterations = iterations;
+    }
+
+    public String generateSalt() {
+        byte[] saltBytes = new byte[SALT_LENGTH];
+        RANDOM.nextBytes(saltBytes);
+        return Base64.getEncoder().encodeToString(saltBytes);
+    }
+
+    public String encode(String rawPassword, String salt) {
+        int rounds = iterations;
+        return PREFIX + rounds + '$' + Base64.getEncoder().encodeToString(hash(rawPassword, salt, rounds));
+    }
+
+    public boolean matches(String rawPassword, String salt, String storedHash) {
+        int storedIterations = iterations(storedHash);
+        if (storedIterations < 1) {
+            return false;
+        }
+        int separator = storedHash.indexOf('$', PREFIX.length());
+        try {
+            byte[] expected = Base64.getDecoder().decode(storedHash.substring(separator + 1));
+            return MessageDigest.isEqual(hash(rawPassword, salt, storedIterations), expected);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Only hashes below the current cost are upgraded. A hash with a higher cost is kept, so lowering the
+     * configured iterations does not weaken existing hashes, and pods whose calibrations differ do not keep
+     * rewriting the hashes of users balanced between them.
+     */
+    public boolean needsRehash(String storedHash) {
+        return iterations(storedHash) < iterations;
+    }
+
+    /**
+     * @return iteration count recorded in the hash, or -1 if the hash is not in the current format
+     */
+    private static int iterations(String storedHash) {
+        if (storedHash == null || !storedHash.startsWith(PREFIX)) {
+            return -1;
+        }
+        int separator = storedHash.indexOf('$', PREFIX.length());
+        if (separator < 0) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(storedHash, PREFIX.length(), separator, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private byte[] hash(String rawPassword, String salt, int rounds) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt.getBytes(StandardCharsets.UTF_8),
+                rounds, HASH_BITS);
+        try {
+            return keyFactory.get().generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new AuthServiceException("Unable to hash password", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static SecretKeyFactory newKeyFactory() {
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AuthServiceException("Unable to initialize password encoder: " + ALGORITHM +
+                    " algorithm is not available", e);
+        }
+    }
+}
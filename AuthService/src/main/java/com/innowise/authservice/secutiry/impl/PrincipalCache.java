@@ -0,0 +1,68 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.innowise.authservice.model.event.UserStateChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * @ClassName PrincipalCache
+ * @Description Optional bounded cache of user id to principal snapshot (role and active flag) for
+ * DB-backed principal resolution. Entries live for a short TTL and are dropped as soon as
+ * a {@link UserStateChangedEvent} for the user is committed.
+ * @Author dshparko
+ * @Date 18.10.2026 18:20
+ * @Version 1.0
+ */
+@Component
+public class PrincipalCache {
+    private static final String CACHE_NAME = "auth.principals";
+
+    private final Cache<Long, UserPrincipal> cache;
+
+    public PrincipalCache(
+            @Value("${auth.principal-cache.enabled:false}") boolean enabled,
+            @Value("${auth.principal-cache.ttl:PT30S}") Duration ttl,
+            @Value("${auth.principal-cache.maximum-size:100000}") long maximumSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * Returns the cached principal for the user or loads and caches it.
+     *
+     * @param userId user identifier
+     * @param loader database lookup
+     * @return principal snapshot
+     */
+    public UserPrincipal get(Long userId, Function<Long, UserPrincipal> loader) {
+        if (cache == null) {
+            return loader.apply(userId);
+        }
+        return cache.get(userId, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStateChanged(UserStateChangedEvent event) {
+        if (cache != null) {
+            cache.invalidate(event.userId());
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.authservice.exception.AuthServiceException;
+import com.innowise.authservice.secutiry.KeyRing;
+import com.innowise.authservice.secutiry.SigningKey;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @ClassName ReloadableKeyRing
+ * @Description {@link KeyRing} backed either by a single key from {@code jwt.*} properties or by a
+ * JSON keyring file that is watched and hot-reloaded. Verification keys are resolved by {@code kid}
+ * through a map lookup, never by trying keys in turn.
+ * @Author dshparko
+ * @Date 17.10.2026 18:20
+ * @Version 1.0
+ */
+@Slf4j
+@Component
+public class ReloadableKeyRing implements KeyRing {
+    private static final String SECRET_PROPERTY = "jwt.secret";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+
+    private final SignatureAlgorithm algorithm;
+    private final String ecPrivateKeyPath;
+    private final String ecPublicKeyPath;
+    private final Path keyRingPath;
+
+    private WatchService watchService;
+
+    public ReloadableKeyRing(
+            @Value("${jwt.algorithm:HS256}") SignatureAlgorithm algorithm,
+            @Value("${jwt.secret:}") String secretKey,
+            @Value("${jwt.ec.private-key:}") String ecPrivateKeyPath,
+            @Value("${jwt.ec.public-key:}") String ecPublicKeyPath,
+            @Value("${jwt.keyring.path:}") String keyRingPath) {
+        this.algorithm = algorithm;
+        this.ecPrivateKeyPath = ecPrivateKeyPath;
+        this.ecPublicKeyPath = ecPublicKeyPath;
+        this.keyRingPath = keyRingPath.isBlank() ? null : Path.of(keyRingPath).toAbsolutePath();
+        this.snapshot.set(this.keyRingPath != null ? readKeyRingFile() : singleKey(secretKey));
+    }
+
+    @Override
+    public SigningKey activeKey() {
+        return snapshot.get().active();
+    }
+
+    @Override
+    public Optional<SigningKey> findKey(String kid) {
+        Snapshot current = snapshot.get();
+        return Optional.ofNullable(kid == null ? current.legacy() : current.byKid().get(kid));
+    }
+
+    @Override
+    public List<SigningKey> keys() {
+        return List.copyOf(snapshot.get().byKid().values());
+    }
+
+    @Override
+    public void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Re-reads the keyring file and atomically replaces the key set.
+     * A file that fails to parse leaves the previous key set in place.
+     */
+    public void reload() {
+        if (keyRingPath == null) {
+            return;
+        }
+        try {
+            replace(readKeyRingFile());
+            log.info("Reloaded JWT keyring from {}", keyRingPath);
+        } catch (RuntimeException e) {
+            log.error("Keeping previous JWT keyring, failed to reload {}: {}", keyRingPath, e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (keyRingPath == null && algorithm == SignatureAlgorithm.HS256
+                && event.getKeys().contains(SECRET_PROPERTY)
+                && event.getSource() instanceof ApplicationContext context) {
+            replace(singleKey(context.getEnvironment().getRequiredProperty(SECRET_PROPERTY)));
+        }
+    }
+
+    @PostConstruct
+    void startWatching() throws IOException {
+        if (keyRingPath == null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        keyRingPath.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread watcher = new Thread(this::watch, "jwt-keyring-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @PreDestroy
+    void stopWatching() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                // Mounted secrets are swapped through symlinks, so any change in the directory triggers a reload.
+                key.pollEvents();
+                key.reset();
+                reload();
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("JWT keyring watcher stopped");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void replace(Snapshot next) {
+        snapshot.set(next);
+        reloadListeners.forEach(Runnable::run);
+    }
+
+    private Snapshot singleKey(String secretKey) {
+        SigningKey key = switch (algorithm) {
+            case HS256 -> SigningKeys.hmac(null, secretKey);
+            case ES256 -> SigningKeys.ecdsa(null, Path.of(ecPrivateKeyPath), Path.of(ecPublicKeyPath));
+            default -> throw new AuthServiceException("Unsupported JWT signing algorithm: " + algorithm);
+        };
+        Map<String, SigningKey> byKid = new HashMap<>();
+        if (key.kid() != null) {
+            byKid.put(key.kid(), key);
+        }
+        return new Snapshot(key, Map.copyOf(byKid), key);
+    }
+
+    private Snapshot readKeyRingFile() {
+        KeyRingFile file;
+        try {
+            file = objectMapper.readValue(keyRingPath.toFile(), KeyRingFile.class);
+        } catch (IOException e) {
+            throw new AuthServiceException("Unable to read JWT keyring " + keyRingPath, e);
+        }
+
+        Map<String, SigningKey> byKid = new HashMap<>();
+        SigningKey legacy = null;
+        for (KeyEntry entry : file.keys()) {
+            SigningKey key = entry.toSigningKey(keyRingPath.getParent());
+            if (byKid.putIfAbsent(key.kid(), key) != null) {
+                throw new AuthServiceException("Duplicate kid '%s' in JWT keyring".formatted(key.kid()));
+            }
+            if (entry.legacy()) {
+                legacy = key;
+            }
+        }
+
+        SigningKey active = byKid.get(file.active());
+        if (active == null || active.signingKey() == null) {
+            throw new AuthServiceException("Active kid '%s' has no signing key in JWT keyring".formatted(file.active()));
+        }
+        return new Snapshot(active, Map.copyOf(byKid), legacy);
+    }
+
+    private record Snapshot(SigningKey active, Map<String, SigningKey> byKid, SigningKey legacy) {
+    }
+
+    private record KeyRingFile(String active, List<KeyEntry> keys) {
+    }
+
+    /**
+     * Keyring file entry. HS256 entries carry a base64 {@code secret}; ES256 entries reference PEM files,
+     * resolved against the keyring directory, and may omit the private key once retired.
+     */
+    private record KeyEntry(String kid, SignatureAlgorithm alg, String secret,
+                            String privateKey, String publicKey, boolean legacy) {
+
+        SigningKey toSigningKey(Path baseDir) {
+            if (kid == null || kid.isBlank()) {
+                throw new AuthServiceException("JWT keyring entry is missing kid");
+            }
+            return switch (alg) {
+                case HS256 -> SigningKeys.hmac(kid, secret);
+                case ES256 -> SigningKeys.ecdsa(kid,
+                        privateKey == null ? null : baseDir.resolve(privateKey),
+                        baseDir.resolve(publicKey));
+                default -> throw new AuthServiceException("Unsupported JWT signing algorithm: " + alg);
+            };
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.innowise.authservice.secutiry.impl;
+
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * @ClassName RevokedTokenTable
+ * @Description Compact open-addressing set of revoked token identifiers with their expiration.
+ * Each entry takes three {@code long} slots (24 bytes) and the table is kept at most half full. It starts at
+ * {@value #MIN_CAPACITY} slots, doubles as entries are added and shrinks on prune, so memory stays proportional
+ * to the number of live revocations. Reads are lock-free in the common case.
+ * @Author dshparko
+ * @Date 18.10.2026 10:45
+ * @Version 1.0
+ */
+final class RevokedTokenTable {
+    private static final int SLOT = 3;
+    private static final int MIN_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile long[] table;
+    private int size;
+
+    RevokedTokenTable() {
+        this.table = new long[MIN_CAPACITY * SLOT];
+    }
+
+    /**
+     * Returns how many entries fit in the memory budget. The budget covers the largest table those entries need
+     * together with the half-sized table it is rehashed from while growing.
+     *
+     * @param budgetBytes memory the table may take
+     * @return maximum number of entries
+     */
+    static int maxEntriesFor(long budgetBytes) {
+        long slots = budgetBytes / (SLOT * Long.BYTES);
+        long capacity = Long.highestOneBit(Math.max(2, slots * 2 / 3));
+        return (int) (Math.min(capacity, MAX_CAPACITY) / 2);
+    }
+
+    boolean contains(UUID jti, long nowEpochSecond) {
+        long stamp = lock.tryOptimisticRead();
+        boolean found = find(table, jti, nowEpochSecond);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = find(table, jti, nowEpochSecond);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    void add(UUID jti, long expiresAtEpochSecond) {
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 2L > table.length / SLOT) {
+                table = rehash(table, (table.length / SLOT) * 2, Long.MIN_VALUE, null);
+            }
+            if (insert(table, jti.getMostSignificantBits(), jti.getLeastSignificantBits(), expiresAtEpochSecond)) {
+                size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Drops entries that expired at or before {@code nowEpochSecond} and shrinks the table.
+     *
+     * @param survivor receives every entry that is kept
+     */
+    void pruneExpired(long nowEpochSecond, Consumer<UUID> survivor) {
+        long stamp = lock.writeLock();
+        try {
+            int kept = 0;
+            for (int i = 0; i < table.length; i += SLOT) {
+                if (table[i + 2] > nowEpochSecond) {
+                    kept++;
+                }
+            }
+            table = rehash(table, capacityFor(kept), nowEpochSecond, survivor);
+            size = kept;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static boolean find(long[] table, UUID jti, long nowEpochSecond) {
+        long msb = jti.getMostSignificantBits();
+        long lsb = jti.getLeastSignificantBits();
+        int capacity = table.length / SLOT;
+        int index = index(msb, lsb, capacity);
+        for (int probes = 0; probes < capacity; probes++) {
+            int slot = index * SLOT;
+            long expiresAt = table[slot + 2];
+            if (expiresAt == 0) {
+                return false;
+            }
+            if (table[slot] == msb && table[slot + 1] == lsb) {
+                return expiresAt > nowEpochSecond;
+            }
+            index = (index + 1) & (capacity - 1);
+        }
+        return false;
+    }
+
+    private static boolean insert(long[] table, long msb, long lsb, long expiresAt) {
+        int capacity = table.length / SLOT;
+        int index = index(msb, lsb, capacity);
+        while (true) {
+            int slot = index * SLOT;
+            if (table[slot + 2] == 0) {
+                table[slot] = msb;
+                table[slot + 1] = lsb;
+                table[slot + 2] = Math.max(1, expiresAt);
+                return true;
+            }
+            if (table[slot] == msb && table[slot + 1] == lsb) {
+                table[slot + 2] = Math.max(table[slot + 2], expiresAt);
+                return false;
+            }
+            index = (index + 1) & (capacity - 1);
+        }
+    }
+
+    private static long[] rehash(long[] source, int capacity, long nowEpochSecond, Consumer<UUID> survivor) {
+        long[] target = new long[capacity * SLOT];
+        for (int i = 0; i < source.length; i += SLOT) {
+            if (source[i + 2] != 0 && source[i + 2] > nowEpochSecond) {
+                insert(target, source[i], source[i + 1], source[i + 2]);
+                if (survivor != null) {
+                    survivor.accept(new UUID(source[i], source[i + 1]));
+                }
+            }
+        }
+        return target;
+    }
+
+    private static int capacityFor(int entries) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < entries * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int index(long msb, long lsb, int capacity) {
+        long hash = msb ^ lsb;
+        hash ^= hash >>> 29;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 32;
+        return (int) hash & (capacity - 1);
+    }
+}
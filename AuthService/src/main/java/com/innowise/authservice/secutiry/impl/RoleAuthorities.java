@@ -0,0 +1,44 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.model.RoleEnum;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @ClassName RoleAuthorities
+ * @Description Preallocated immutable authority lists, one per {@link RoleEnum}, shared by all principals.
+ * @Author dshparko
+ * @Date 18.10.2026 19:15
+ * @Version 1.0
+ */
+final class RoleAuthorities {
+    private static final Map<RoleEnum, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(RoleEnum.class);
+
+    static {
+        for (RoleEnum role : RoleEnum.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.name())));
+        }
+    }
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * @param roleName role name as stored in tokens and the database
+     * @return shared authority list, or a new one for names that are not a {@link RoleEnum}
+     */
+    static List<GrantedAuthority> of(String roleName) {
+        if (roleName == null) {
+            return List.of();
+        }
+        try {
+            return AUTHORITIES.get(RoleEnum.valueOf(roleName));
+        } catch (IllegalArgumentException e) {
+            return List.of(new SimpleGrantedAuthority(roleName));
+        }
+    }
+}
@@ -15,39 +15,60 @@ import static com.innowise.authservice.secutiry.AuthConstant.DEFAULT_ALGORITHM;
 /**
  * @ClassName SaltedPasswordEncoder
  * @Description Utility component for encoding and verifying passwords using SHA-256 with salt.
+ * This is the legacy format: its hashes carry no prefix.
+ * Safe for concurrent use: each thread hashes with its own {@link MessageDigest}, and salts come from
+ * a single shared {@link SecureRandom}.
  * @Author dshparko
  * @Date 07.10.2025 15:13
  * @Version 1.0
  */
 @Component
 public class SaltedPasswordEncoder implements PasswordEncoder {
+    private static final int SALT_LENGTH = 16;
+    private static final SecureRandom RANDOM = new SecureRandom();
 
-    private final MessageDigest digest;
+    private final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(SaltedPasswordEncoder::newDigest);
 
     public SaltedPasswordEncoder() {
-        try {
-            this.digest = MessageDigest.getInstance(DEFAULT_ALGORITHM);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AuthServiceException("Unable to initialize password encoder: " + DEFAULT_ALGORITHM +
-                    " algorithm is not available", e);
-        }
+        newDigest();
     }
 
 
     public String generateSalt() {
-        byte[] saltBytes = new byte[16];
-        new SecureRandom().nextBytes(saltBytes);
+        byte[] saltBytes = new byte[SALT_LENGTH];
+        RANDOM.nextBytes(saltBytes);
         return Base64.getEncoder().encodeToString(saltBytes);
     }
 
     public String encode(String rawPassword, String salt) {
-        String salted = salt + rawPassword;
-        byte[] hash = digest.digest(salted.getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(hash);
+        return Base64.getEncoder().encodeToString(hash(rawPassword, salt));
     }
 
     public boolean matches(String rawPassword, String salt, String storedHash) {
-        String encoded = encode(rawPassword, salt);
-        return encoded.equals(storedHash);
+        byte[] expected;
+        try {
+            expected = Base64.getDecoder().decode(storedHash);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(hash(rawPassword, salt), expected);
+    }
+
+    public boolean needsRehash(String storedHash) {
+        return false;
+    }
+
+    private byte[] hash(String rawPassword, String salt) {
+        String salted = salt + rawPassword;
+        return digest.get().digest(salted.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DEFAULT_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AuthServiceException("Unable to initialize password encoder: " + DEFAULT_ALGORITHM +
+                    " algorithm is not available", e);
+        }
     }
 }
@@ -0,0 +1,62 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.secutiry.AuthConstant;
+import com.innowise.authservice.secutiry.JwtService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * @ClassName ServiceTokenProvider
+ * @Description Credential this service presents to the User Service when it calls it in the background.
+ * Either a token configured in {@code user-service.auth.token}, or a {@code service} token minted from this
+ * service's own key ring and kept in memory only. A minted token carries the service-only {@code SERVICE} role
+ * by default and is refused by {@link com.innowise.authservice.secutiry.JwtFilter}, so it grants nothing on this
+ * service's own endpoints. It is replaced after half of its lifetime, so a call never goes out with a token about
+ * to expire. Caller tokens are never stored for later calls.
+ * @Author dshparko
+ * @Date 22.10.2026 10:00
+ * @Version 1.0
+ */
+@Component
+public class ServiceTokenProvider {
+    private final JwtService jwtService;
+    private final String configuredToken;
+    private final UserPrincipal principal;
+    private final Duration refreshAfter;
+
+    private volatile MintedToken minted;
+
+    public ServiceTokenProvider(
+            JwtService jwtService,
+            @Value("${user-service.auth.token:}") String configuredToken,
+            @Value("${user-service.auth.principal-id:0}") long principalId,
+            @Value("${user-service.auth.role:" + AuthConstant.SERVICE_ROLE + "}") String role,
+            @Value("${jwt.access-token.expiration}") long accessTokenExpirationMs) {
+        this.jwtService = jwtService;
+        this.configuredToken = configuredToken;
+        this.principal = new UserPrincipal(principalId, role, true, null, null);
+        this.refreshAfter = Duration.ofMillis(accessTokenExpirationMs / 2);
+    }
+
+    /**
+     * @return token to authenticate a call to the User Service with
+     */
+    public String token() {
+        if (!configuredToken.isBlank()) {
+            return configuredToken;
+        }
+        MintedToken current = minted;
+        Instant now = Instant.now();
+        if (current == null || !now.isBefore(current.refreshAt())) {
+            current = new MintedToken(jwtService.generateServiceToken(principal), now.plus(refreshAfter));
+            minted = current;
+        }
+        return current.token();
+    }
+
+    private record MintedToken(String token, Instant refreshAt) {
+    }
+}
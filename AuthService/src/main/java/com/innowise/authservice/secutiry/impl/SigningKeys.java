@@ -0,0 +1,113 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.exception.AuthServiceException;
+import com.innowise.authservice.model.dto.JsonWebKey;
+import com.innowise.authservice.secutiry.SigningKey;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import static com.innowise.authservice.secutiry.AuthConstant.DEFAULT_ALGORITHM;
+
+/**
+ * @ClassName SigningKeys
+ * @Description Factory for {@link SigningKey} instances built from an HMAC secret or from local PEM files.
+ * @Author dshparko
+ * @Date 17.10.2026 16:20
+ * @Version 1.0
+ */
+public final class SigningKeys {
+    private static final String EC_KEY_TYPE = "EC";
+    private static final String P256_CURVE = "P-256";
+    private static final int P256_COORDINATE_LENGTH = 32;
+    private static final String SIGNATURE_USE = "sig";
+
+    private SigningKeys() {
+    }
+
+    /**
+     * Builds an HS256 key from a base64-encoded secret.
+     *
+     * @param kid          key identifier, may be {@code null}
+     * @param base64Secret base64-encoded HMAC secret
+     * @return symmetric signing key
+     */
+    public static SigningKey hmac(String kid, String base64Secret) {
+        var key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+        return new SigningKey(kid, SignatureAlgorithm.HS256, key, key, null);
+    }
+
+    /**
+     * Builds an ES256 key pair from PKCS#8 private and X.509 public PEM files.
+     * When no key identifier is given, the RFC 7638 thumbprint of the public key is used.
+     *
+     * @param kid            key identifier, may be {@code null}
+     * @param privateKeyPath PEM file with the P-256 private key, or {@code null} for a verification-only key
+     * @param publicKeyPath  PEM file with the P-256 public key
+     * @return asymmetric signing key
+     */
+    public static SigningKey ecdsa(String kid, Path privateKeyPath, Path publicKeyPath) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(EC_KEY_TYPE);
+            PrivateKey privateKey = privateKeyPath == null ? null
+                    : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readPem(privateKeyPath)));
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(readPem(publicKeyPath)));
+
+            if (!(publicKey instanceof ECPublicKey ecPublicKey)
+                    || ecPublicKey.getParams().getCurve().getField().getFieldSize() != 256) {
+                throw new AuthServiceException("ES256 requires a P-256 public key: " + publicKeyPath);
+            }
+
+            String x = base64Url(ecPublicKey.getW().getAffineX());
+            String y = base64Url(ecPublicKey.getW().getAffineY());
+            String keyId = kid != null ? kid : thumbprint(x, y);
+            JsonWebKey jwk = new JsonWebKey(EC_KEY_TYPE, P256_CURVE, x, y, SIGNATURE_USE,
+                    SignatureAlgorithm.ES256.getValue(), keyId);
+
+            return new SigningKey(keyId, SignatureAlgorithm.ES256, privateKey, publicKey, jwk);
+        } catch (GeneralSecurityException e) {
+            throw new AuthServiceException("Unable to load ES256 key pair: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] readPem(Path path) {
+        try {
+            String pem = Files.readString(path, StandardCharsets.US_ASCII);
+            String body = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+            return Base64.getDecoder().decode(body);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new AuthServiceException("Unable to read PEM key from " + path, e);
+        }
+    }
+
+    private static String base64Url(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_LENGTH];
+        int length = Math.min(bytes.length, P256_COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - length, fixed, P256_COORDINATE_LENGTH - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static String thumbprint(String x, String y) throws GeneralSecurityException {
+        String canonical = "{\"crv\":\"" + P256_CURVE + "\",\"kty\":\"" + EC_KEY_TYPE
+                + "\",\"x\":\"" + x + "\",\"y\":\"" + y + "\"}";
+        byte[] digest = MessageDigest.getInstance(DEFAULT_ALGORITHM)
+                .digest(canonical.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+}
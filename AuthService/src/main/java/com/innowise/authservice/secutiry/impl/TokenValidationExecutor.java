@@ -0,0 +1,62 @@
+package com.innowise.authservice.secutiry.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+
+/**
+ * @ClassName TokenValidationExecutor
+ * @Description Validates large token batches in parallel on a pool of its own instead of the JVM-wide common
+ * {@link ForkJoinPool}, which is shared with every other parallel stream and async task of the process.
+ * A burst of batch validations therefore cannot starve unrelated work, and the pool shows up in the metrics.
+ * @Author dshparko
+ * @Date 23.10.2026 10:00
+ * @Version 1.0
+ */
+@Component
+public class TokenValidationExecutor {
+    private static final String POOL_NAME = "token.validation";
+
+    private final ForkJoinPool pool;
+
+    public TokenValidationExecutor(
+            @Value("${auth.validate.batch.threads:0}") int threads,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism, TokenValidationExecutor::newThread, null, false);
+        meterRegistry.ifAvailable(registry -> ExecutorServiceMetrics.monitor(registry, pool, POOL_NAME, List.of()));
+    }
+
+    /**
+     * Applies the function to every item in parallel on the validation pool and waits for all results.
+     * The function is expected to handle its own failures; an exception thrown by it fails the whole call.
+     *
+     * @param items    items to process
+     * @param function work for a single item
+     * @return results in item order
+     */
+    public <T, R> List<R> mapAll(List<T> items, Function<? super T, ? extends R> function) {
+        // A parallel stream forks its subtasks into the pool it is started from
+        return pool.submit(() -> items.parallelStream().<R>map(function).toList()).join();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("token-validation-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -1,34 +1,42 @@
 package com.innowise.authservice.secutiry.impl;
 
+import com.innowise.authservice.model.dto.LoginCredential;
+import com.innowise.authservice.model.entity.Credential;
 import com.innowise.authservice.model.entity.User;
+import org.hibernate.Hibernate;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.List;
 
 /**
  * @ClassName UserPrincipal
- * @Description Adapter class that bridges the {@link User} entity with Spring Security's {@link UserDetails} interface.
+ * @Description Spring Security's {@link UserDetails} view of a user. Holds plain values rather than the
+ * {@link User} entity, so reading it never triggers lazy loading or extra queries.
  * @Author dshparko
  * @Date 07.10.2025 14:23
  * @Version 1.0
  */
-public record UserPrincipal(User user) implements UserDetails {
+public record UserPrincipal(
+        Long userId,
+        String role,
+        boolean active,
+        String username,
+        String password
+) implements UserDetails {
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(user.getRole().getName()));
+        return RoleAuthorities.of(role);
     }
 
     @Override
     public String getPassword() {
-        return user.getCredential().getPasswordHash();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getCredential().getEmail();
+        return username;
     }
 
     @Override
@@ -48,14 +56,29 @@ public record UserPrincipal(User user) implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.isActive();
+        return active;
     }
 
+    /**
+     * Builds a principal from a user whose role is loaded. The credential is only read if it was already
+     * fetched, so this never issues a query for it.
+     */
     public static UserPrincipal of(User user) {
-        return new UserPrincipal(user);
+        Credential credential = Hibernate.isPropertyInitialized(user, "credential") ? user.getCredential() : null;
+        return new UserPrincipal(
+                user.getId(),
+                user.getRole().getName(),
+                user.isActive(),
+                credential != null ? credential.getEmail() : null,
+                credential != null ? credential.getPasswordHash() : null
+        );
+    }
+
+    public static UserPrincipal of(LoginCredential login) {
+        return new UserPrincipal(login.userId(), login.role(), login.active(), login.email(), login.passwordHash());
     }
 
     public String getId() {
-        return user.getId().toString();
+        return userId.toString();
     }
 }
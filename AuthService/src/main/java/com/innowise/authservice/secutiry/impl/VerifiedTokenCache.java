@@ -0,0 +1,108 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.innowise.authservice.exception.AuthServiceException;
+import com.innowise.authservice.secutiry.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+import static com.innowise.authservice.secutiry.AuthConstant.DEFAULT_ALGORITHM;
+
+/**
+ * @ClassName VerifiedTokenCache
+ * @Description Optional bounded cache of already verified tokens keyed by a SHA-256 digest of the raw token.
+ * Entries expire together with the token they describe; when disabled every lookup goes to the verifier.
+ * @Author dshparko
+ * @Date 17.10.2026 14:02
+ * @Version 1.0
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance(DEFAULT_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AuthServiceException("Unable to initialize token cache: " + DEFAULT_ALGORITHM +
+                    " algorithm is not available", e);
+        }
+    });
+
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:false}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:100000}") long maximumSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * Returns the cached verification result for the token or verifies and caches it.
+     * Failed verifications are never cached.
+     *
+     * @param token    raw JWT
+     * @param verifier full signature and claim verification
+     * @return verified token
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(DIGEST.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static final class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.innowise.authservice.service;
+
+import com.innowise.authservice.model.dto.UserDto;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @interface AsyncUserClient
+ * @description Non-blocking variant of {@link UserClient}.
+ * The calling thread only enqueues the request; the result is delivered through the returned future.
+ */
+public interface AsyncUserClient {
+
+    /**
+     * Requests the creation of a user in the User Service.
+     *
+     * @param userDto        the user data transfer object containing registration details
+     * @param idempotencyKey key identifying this creation, the same on every retry
+     * @param token          the JWT token used for authorization when calling the User Service
+     * @return future completed with the identifier of the created user, or exceptionally if the call failed
+     * @see UserClient#createUser(UserDto, String, String)
+     */
+    CompletableFuture<Long> createUser(UserDto userDto, String idempotencyKey, String token);
+}
@@ -5,6 +5,9 @@ import com.innowise.authservice.model.dto.AuthenticationResponse;
 import com.innowise.authservice.model.dto.LoginDto;
 import com.innowise.authservice.model.dto.TokenInfo;
 import com.innowise.authservice.model.dto.TokenPayload;
+import com.innowise.authservice.model.dto.TokenValidationResult;
+
+import java.util.List;
 
 /**
  * Interface defining authentication and token lifecycle operations.
@@ -40,6 +43,15 @@ public interface AuthService {
      */
     TokenInfo validate(TokenPayload token);
 
+    /**
+     * Validates several tokens at once. An invalid token does not fail the batch;
+     * its position in the result holds the error instead of the token info.
+     *
+     * @param tokens payloads containing JWTs
+     * @return one result per token, in request order
+     */
+    List<TokenValidationResult> validateAll(List<TokenPayload> tokens);
+
     /**
      * Refreshes access and refresh tokens using a valid refresh token.
      *
@@ -47,4 +59,11 @@ public interface AuthService {
      * @return new JWT token pair
      */
     AuthenticationResponse refresh(TokenPayload request);
+
+    /**
+     * Revokes an access or refresh token before its expiration.
+     *
+     * @param token payload containing JWT to revoke
+     */
+    void revoke(TokenPayload token);
 }
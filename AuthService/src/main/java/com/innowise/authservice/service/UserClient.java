@@ -2,6 +2,8 @@ package com.innowise.authservice.service;
 
 import com.innowise.authservice.model.dto.UserDto;
 
+import java.util.List;
+
 /**
  * @interface UserClient
  * @description Defines a contract for communication with the User Service.
@@ -13,10 +15,25 @@ public interface UserClient {
      * Creates a new user in the User Service.
      * This method sends a request to the User Service with the provided user details.
      * The request is authenticated using the supplied JWT token.
+     * The idempotency key is sent in the {@code Idempotency-Key} header; the User Service creates at most one user
+     * per key, so a call repeated after a lost response does not create a duplicate.
+     *
+     * @param userDto        the user data transfer object containing registration details
+     * @param idempotencyKey key identifying this creation, the same on every retry
+     * @param token          the JWT token used for authorization when calling the User Service
+     */
+    Long createUser(UserDto userDto, String idempotencyKey, String token);
+
+    /**
+     * Creates several users in the User Service with one call to its bulk endpoint.
+     * The idempotency keys are sent comma-separated in the {@code Idempotency-Key} header, in the order of
+     * {@code userDtos}.
      *
-     * @param userDto the user data transfer object containing registration details
-     * @param token   the JWT token used for authorization when calling the User Service
+     * @param userDtos        the users to create
+     * @param idempotencyKeys keys identifying the creations, in the order of {@code userDtos}
+     * @param token           the JWT token used for authorization when calling the User Service
+     * @return identifiers of the created users, in the order of {@code userDtos}
      */
-    Long createUser(UserDto userDto, String token);
+    List<Long> createUsers(List<UserDto> userDtos, List<String> idempotencyKeys, String token);
 
 }
@@ -0,0 +1,30 @@
+package com.innowise.authservice.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Interface defining bulk import of users.
+ *
+ * @author dshparko
+ * @version 1.0
+ * @since 20.10.2026
+ */
+public interface UserImportService {
+
+    /**
+     * Imports users from a stream of registration records and writes one result per record.
+     * <p>
+     * The input is read incrementally, either as newline-delimited JSON or as a JSON array of
+     * {@link com.innowise.authservice.model.dto.AuthDto}. Records are processed in chunks: each chunk is
+     * hashed in parallel and written in one transaction, then its results are flushed as
+     * newline-delimited {@link com.innowise.authservice.model.dto.UserImportResult}.
+     * </p>
+     *
+     * @param input  registration records
+     * @param output destination of the results
+     * @throws IOException if reading the input or writing the results fails
+     */
+    void importUsers(InputStream input, OutputStream output) throws IOException;
+}
@@ -3,6 +3,7 @@ package com.innowise.authservice.service;
 import com.innowise.authservice.model.dto.AuthDto;
 import com.innowise.authservice.model.entity.Role;
 import com.innowise.authservice.model.entity.User;
+import com.innowise.authservice.secutiry.impl.UserPrincipal;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 /**
@@ -23,18 +24,24 @@ public interface UserService {
      *
      * @param role        role to assign
      */
-    void register(AuthDto request, Role role, String token);
+    void register(AuthDto request, Role role);
 
     /**
-     * Finds a user by their email address.
-     * <p>
-     * Looks up the credential and returns the associated user entity.
-     * </p>
+     * Finds a user by their identifier.
      *
-     * @param id user's email
+     * @param id user's identifier
      * @return user entity
-     * @throws UsernameNotFoundException if no credential is found
+     * @throws UsernameNotFoundException if no user is found
      */
     User findById(Long id) throws UsernameNotFoundException;
+
+    /**
+     * Returns a snapshot of the user's role and active flag, served from the principal cache when enabled.
+     *
+     * @param id user's identifier
+     * @return principal without credentials
+     * @throws UsernameNotFoundException if no user is found
+     */
+    UserPrincipal loadPrincipal(Long id) throws UsernameNotFoundException;
 }
 
@@ -5,23 +5,33 @@ import com.innowise.authservice.exception.ResourceNotFoundException;
 import com.innowise.authservice.model.RoleEnum;
 import com.innowise.authservice.model.dto.AuthDto;
 import com.innowise.authservice.model.dto.AuthenticationResponse;
+import com.innowise.authservice.model.dto.LoginCredential;
 import com.innowise.authservice.model.dto.LoginDto;
 import com.innowise.authservice.model.dto.TokenInfo;
 import com.innowise.authservice.model.dto.TokenPayload;
-import com.innowise.authservice.model.entity.Credential;
+import com.innowise.authservice.model.dto.TokenValidationResult;
 import com.innowise.authservice.model.entity.Role;
-import com.innowise.authservice.model.entity.User;
 import com.innowise.authservice.repository.CredentialRepository;
-import com.innowise.authservice.repository.RoleRepository;
 import com.innowise.authservice.secutiry.JwtService;
 import com.innowise.authservice.secutiry.PasswordEncoder;
+import com.innowise.authservice.secutiry.RoleRegistry;
+import com.innowise.authservice.secutiry.TokenDenylist;
+import com.innowise.authservice.secutiry.VerifiedToken;
+import com.innowise.authservice.secutiry.impl.PasswordHashingExecutor;
+import com.innowise.authservice.secutiry.impl.TokenValidationExecutor;
 import com.innowise.authservice.secutiry.impl.UserPrincipal;
 import com.innowise.authservice.service.AuthService;
 import com.innowise.authservice.service.UserService;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+import static com.innowise.authservice.secutiry.AuthConstant.SERVICE_TYPE;
+
 
 /**
  * @ClassName AuthService
@@ -30,26 +40,45 @@ import org.springframework.stereotype.Service;
  * @Date 04.10.2025 19:26
  * @Version 1.0
  */
-@AllArgsConstructor
+@Slf4j
+@RequiredArgsConstructor
 @Service
 public class AuthServiceImpl implements AuthService {
+    private static final String MISSING_TOKEN = "Token is missing or empty";
+
     private final JwtService jwtService;
     private final UserService userService;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final CredentialRepository credentialRepository;
     private final PasswordEncoder encoder;
+    private final TokenDenylist denylist;
+    private final PasswordHashingExecutor hashingExecutor;
+    private final TokenValidationExecutor validationExecutor;
+
+    @Value("${auth.validate.batch.max-size:1000}")
+    private int batchMaxSize;
+
+    @Value("${auth.validate.batch.parallel-threshold:64}")
+    private int batchParallelThreshold;
 
 
     public AuthenticationResponse login(LoginDto request) {
-        Credential credential = credentialRepository.findByEmail(request.email())
+        LoginCredential login = credentialRepository.findLoginByEmail(request.email())
                 .orElseThrow(() -> new ResourceNotFoundException("Credential with email " + request.email() + " wasn't found"));
 
-        if (!encoder.matches(request.password(), credential.getSalt(), credential.getPasswordHash())) {
+        boolean matches = hashingExecutor.execute(() ->
+                encoder.matches(request.password(), login.salt(), login.passwordHash()));
+        if (!matches) {
             throw new ResourceNotFoundException("Invalid password");
         }
+        if (!login.active()) {
+            throw new AccessDeniedException("User is deactivated");
+        }
+        if (encoder.needsRehash(login.passwordHash())) {
+            scheduleRehash(login, request.password());
+        }
 
-        User user = credential.getUser();
-        UserPrincipal principal = UserPrincipal.of(user);
+        UserPrincipal principal = UserPrincipal.of(login);
 
         return new AuthenticationResponse(
                 jwtService.generateAccessToken(principal),
@@ -57,11 +86,24 @@ public class AuthServiceImpl implements AuthService {
         );
     }
 
+    /**
+     * Re-encodes the password with the current algorithm and cost off the response path.
+     * If the pool is busy the upgrade is simply retried on a later login.
+     */
+    private void scheduleRehash(LoginCredential login, String rawPassword) {
+        Long id = login.credentialId();
+        String oldHash = login.passwordHash();
+        hashingExecutor.submit(() -> {
+            String salt = encoder.generateSalt();
+            credentialRepository.updatePasswordHash(id, oldHash, encoder.encode(rawPassword, salt), salt);
+        });
+    }
+
     public void register(AuthDto request, String authHeader) {
         String token = extractToken(authHeader);
         String requestedRoleName = request.getCredentials().role().toUpperCase();
 
-        Role role = roleRepository.findByName(requestedRoleName)
+        Role role = roleRegistry.findByName(requestedRoleName)
                 .orElseThrow(() -> new ResourceNotFoundException("Role '%s' was not found".formatted(requestedRoleName)));
 
         String creatorRoleName = resolveCreatorRole(token);
@@ -70,32 +112,59 @@ public class AuthServiceImpl implements AuthService {
 
         userService.register(
                 request,
-                role,
-                token
+                role
         );
     }
 
     public TokenInfo validate(TokenPayload token) {
         String rawToken = extractRawToken(token);
-        validateExpiration(rawToken);
-
-        String id = extractAndValidateId(rawToken);
-        String role = extractAndValidateRole(rawToken);
-        String type = extractAndValidateType(rawToken);
+        VerifiedToken verified = verifyToken(rawToken);
 
-        validateClaims(rawToken, id, role);
+        String id = extractAndValidateId(verified);
+        String role = extractAndValidateRole(verified);
+        String type = extractAndValidateType(verified);
 
         return new TokenInfo(id, role, type);
     }
 
+    public List<TokenValidationResult> validateAll(List<TokenPayload> tokens) {
+        if (tokens.size() > batchMaxSize) {
+            throw new InvalidResourceException("Batch of %d tokens exceeds the limit of %d"
+                    .formatted(tokens.size(), batchMaxSize));
+        }
 
-    public AuthenticationResponse refresh(TokenPayload request) {
-        String token = request.token();
+        if (tokens.size() >= batchParallelThreshold) {
+            return validationExecutor.mapAll(tokens, this::validateSafely);
+        }
+        return tokens.stream().map(this::validateSafely).toList();
+    }
+
+    /**
+     * Validates one token of a batch. Every failure, including a missing entry, becomes an invalid result for
+     * that entry only, so one malformed token never fails the rest of the batch.
+     */
+    private TokenValidationResult validateSafely(TokenPayload token) {
+        if (token == null) {
+            return TokenValidationResult.invalid(MISSING_TOKEN);
+        }
+        try {
+            return TokenValidationResult.valid(validate(token));
+        } catch (InvalidResourceException e) {
+            return TokenValidationResult.invalid(e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Unexpected failure while validating a token of a batch", e);
+            return TokenValidationResult.invalid("Token could not be validated");
+        }
+    }
 
-        validateRefreshToken(token);
 
-        User user = resolveUserFromToken(token);
-        UserPrincipal principal = UserPrincipal.of(user);
+    public AuthenticationResponse refresh(TokenPayload request) {
+        VerifiedToken verified = validateRefreshToken(request.token());
+
+        UserPrincipal principal = resolvePrincipalFromToken(verified);
+        if (!principal.isEnabled()) {
+            throw new AccessDeniedException("User is deactivated");
+        }
 
         return new AuthenticationResponse(
                 jwtService.generateAccessToken(principal),
@@ -103,32 +172,40 @@ public class AuthServiceImpl implements AuthService {
         );
     }
 
-    private User resolveUserFromToken(String token) {
-        String id = jwtService.extractUserId(token);
+    public void revoke(TokenPayload token) {
+        VerifiedToken verified = verifyToken(extractRawToken(token));
+        if (verified.jti() == null) {
+            throw new InvalidResourceException("Token has no identifier and can't be revoked");
+        }
+        denylist.revoke(verified.jti(), verified.expiresAt());
+    }
+
+    private UserPrincipal resolvePrincipalFromToken(VerifiedToken verified) {
+        String id = verified.userId();
 
         if (id == null || id.isBlank()) {
             throw new InvalidResourceException("Missing user ID in token");
         }
 
         try {
-            return userService.findById(Long.valueOf(id));
+            return userService.loadPrincipal(Long.valueOf(id));
         } catch (NumberFormatException e) {
             throw new InvalidResourceException("Invalid user ID format in token");
         }
     }
 
 
-    private void validateRefreshToken(String token) {
-        String id = jwtService.extractUserId(token);
-        String role = jwtService.extractRole(token);
+    private VerifiedToken validateRefreshToken(String token) {
+        VerifiedToken verified = jwtService.verify(token);
 
-        if (!jwtService.isTokenValid(token, id, role)) {
+        if (verified.userId() == null || verified.role() == null || verified.isExpired()) {
             throw new InvalidResourceException("Refresh token is invalid");
         }
 
-        if (!jwtService.isRefreshToken(token)) {
+        if (!verified.isRefresh()) {
             throw new InvalidResourceException("We can't refresh access token");
         }
+        return verified;
     }
 
 
@@ -141,54 +218,52 @@ public class AuthServiceImpl implements AuthService {
     private String extractRawToken(TokenPayload token) {
         String rawToken = token.token();
         if (rawToken == null || rawToken.isBlank()) {
-            throw new InvalidResourceException("Token is missing or empty");
+            throw new InvalidResourceException(MISSING_TOKEN);
         }
         return rawToken;
     }
 
 
-    private void validateExpiration(String token) {
-        if (jwtService.isTokenExpired(token)) {
+    private VerifiedToken verifyToken(String token) {
+        VerifiedToken verified = jwtService.verify(token);
+        if (verified.isExpired()) {
             throw new InvalidResourceException("Token has expired");
         }
+        return verified;
     }
 
 
-    private String extractAndValidateId(String token) {
-        String email = jwtService.extractUserId(token);
-        if (email == null || email.isBlank()) {
+    private String extractAndValidateId(VerifiedToken token) {
+        String id = token.userId();
+        if (id == null || id.isBlank()) {
             throw new InvalidResourceException("Token does not contain a valid email");
         }
-        return email;
+        return id;
     }
 
-    private String extractAndValidateRole(String token) {
-        String role = jwtService.extractRole(token);
+    private String extractAndValidateRole(VerifiedToken token) {
+        String role = token.role();
         if (role == null || role.isBlank()) {
             throw new InvalidResourceException("Token does not contain a valid role");
         }
         return role;
     }
 
-    private String extractAndValidateType(String token) {
-        String type = jwtService.extractType(token);
+    private String extractAndValidateType(VerifiedToken token) {
+        String type = token.type();
         if (type == null || type.isBlank()) {
             throw new InvalidResourceException("Token does not contain a valid role");
         }
         return type;
     }
 
-    private void validateClaims(String token, String expectedEmail, String expectedRole) {
-        if (!jwtService.isTokenValid(token, expectedEmail, expectedRole)) {
-            throw new InvalidResourceException("Token is invalid");
-        }
-    }
-
     private String resolveCreatorRole(String token) {
         if (token == null || token.isBlank()) {
             return RoleEnum.USER.name();
         }
-        return jwtService.extractRole(token);
+        VerifiedToken verified = jwtService.verify(token);
+        // A service token acts for no user and cannot grant a role
+        return SERVICE_TYPE.equals(verified.type()) ? RoleEnum.USER.name() : verified.role();
     }
 
     private void validateRoleAssignment(String requestedRole, String creatorRole) {
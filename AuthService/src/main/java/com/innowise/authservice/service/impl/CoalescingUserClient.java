@@ -0,0 +1,185 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.exception.ServiceUnavailableException;
+import com.innowise.authservice.model.dto.UserDto;
+import com.innowise.authservice.service.AsyncUserClient;
+import com.innowise.authservice.service.UserClient;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @ClassName CoalescingUserClient
+ * @Description {@link AsyncUserClient} that coalesces concurrent user creations into calls to the bulk endpoint.
+ * A collector thread takes the first pending request, waits up to {@code linger} for more, and sends up to
+ * {@code max-batch-size} requests sharing a token in one call from a small sender pool. A bulk call succeeds or
+ * fails as a whole; when the User Service rejects it with a 4xx, its users are sent one by one so that each
+ * gets its own answer. When disabled, every request is sent on its own on the calling thread.
+ * @Author dshparko
+ * @Date 21.10.2026 16:00
+ * @Version 1.0
+ */
+@Slf4j
+@Component
+public class CoalescingUserClient implements AsyncUserClient {
+    private final UserClient userClient;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<PendingUser> queue;
+    private final ThreadPoolExecutor senders;
+    private final Thread collector;
+    private final DistributionSummary batchSizes;
+
+    public CoalescingUserClient(
+            UserClient userClient,
+            @Value("${user-service.coalescing.enabled:false}") boolean enabled,
+            @Value("${user-service.coalescing.max-batch-size:50}") int maxBatchSize,
+            @Value("${user-service.coalescing.linger:PT0.01S}") Duration linger,
+            @Value("${user-service.coalescing.max-concurrent-requests:4}") int maxConcurrentRequests,
+            @Value("${user-service.coalescing.queue-capacity:10000}") int queueCapacity,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.userClient = userClient;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        if (!enabled) {
+            this.queue = null;
+            this.senders = null;
+            this.collector = null;
+            this.batchSizes = null;
+            return;
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger counter = new AtomicInteger();
+        // Sends on the collector thread once all senders are busy, which slows down collecting instead of queueing
+        this.senders = new ThreadPoolExecutor(maxConcurrentRequests, maxConcurrentRequests, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrentRequests),
+                task -> daemon(task, "user-service-sender-" + counter.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.batchSizes = registry == null ? null : DistributionSummary.builder("user.service.batch.size")
+                .description("Users created per call to the User Service")
+                .register(registry);
+        this.collector = daemon(this::collect, "user-service-collector");
+        this.collector.start();
+    }
+
+    @Override
+    public CompletableFuture<Long> createUser(UserDto userDto, String idempotencyKey, String token) {
+        if (collector == null) {
+            try {
+                return CompletableFuture.completedFuture(userClient.createUser(userDto, idempotencyKey, token));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        PendingUser pending = new PendingUser(userDto, idempotencyKey, token, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            return CompletableFuture.failedFuture(
+                    new ServiceUnavailableException("Too many pending calls to the User Service, retry later"));
+        }
+        return pending.result();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (collector == null) {
+            return;
+        }
+        collector.interrupt();
+        collector.join();
+        senders.shutdown();
+        senders.awaitTermination(30, TimeUnit.SECONDS);
+        List<PendingUser> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        fail(abandoned, new ServiceUnavailableException("User Service client is shutting down"));
+    }
+
+    private void collect() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<PendingUser> batch = new ArrayList<>(maxBatchSize);
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingUser next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                fail(batch, new ServiceUnavailableException("User Service client is shutting down"));
+                return;
+            }
+
+            Map<String, List<PendingUser>> byToken = new LinkedHashMap<>();
+            for (PendingUser pending : batch) {
+                byToken.computeIfAbsent(pending.token(), token -> new ArrayList<>()).add(pending);
+            }
+            byToken.forEach((token, users) -> senders.execute(() -> send(users, token)));
+        }
+    }
+
+    private void send(List<PendingUser> users, String token) {
+        if (batchSizes != null) {
+            batchSizes.record(users.size());
+        }
+        if (users.size() == 1) {
+            sendOne(users.getFirst(), token);
+            return;
+        }
+        try {
+            List<Long> ids = userClient.createUsers(users.stream().map(PendingUser::userDto).toList(),
+                    users.stream().map(PendingUser::idempotencyKey).toList(), token);
+            for (int i = 0; i < users.size(); i++) {
+                users.get(i).result().complete(ids.get(i));
+            }
+        } catch (HttpClientErrorException e) {
+            // The bulk call was rejected as a whole; one call per user tells which of them are at fault
+            log.warn("User Service rejected a bulk call of {} users, sending them one by one: {}",
+                    users.size(), e.getMessage());
+            users.forEach(user -> sendOne(user, token));
+        } catch (RuntimeException e) {
+            log.warn("Failed to create {} users in User Service: {}", users.size(), e.getMessage());
+            fail(users, e);
+        }
+    }
+
+    private void sendOne(PendingUser user, String token) {
+        try {
+            user.result().complete(userClient.createUser(user.userDto(), user.idempotencyKey(), token));
+        } catch (RuntimeException e) {
+            user.result().completeExceptionally(e);
+        }
+    }
+
+    private static void fail(List<PendingUser> users, Throwable e) {
+        users.forEach(user -> user.result().completeExceptionally(e));
+    }
+
+    private static Thread daemon(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record PendingUser(UserDto userDto, String idempotencyKey, String token, CompletableFuture<Long> result) {
+    }
+}
@@ -12,8 +12,12 @@ import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * @ClassName UserClient
  * @Description  Concrete implementation of {@link UserClient} that communicates with the User Service.
@@ -23,28 +27,28 @@ import org.springframework.web.client.RestTemplate;
  */
 @Service
 public class UserClientImpl implements UserClient {
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
     private final RestTemplate restTemplate;
-
-    @Value("${user-service.url}")
-    private String userServiceUrl;
-
-    @Value("${user-service.path}")
-    private String userApiPath;
+    private final String userServiceUrl;
+    private final String userApiPath;
+    private final String userBulkApiPath;
 
     public UserClientImpl(
             @Value("${user-service.url}") String userServiceUrl,
             @Value("${user-service.path}") String userApiPath,
+            @Value("${user-service.bulk-path:/api/v1/users/bulk}") String userBulkApiPath,
             RestTemplate restTemplate) {
         this.userServiceUrl = userServiceUrl;
         this.userApiPath = userApiPath;
+        this.userBulkApiPath = userBulkApiPath;
         this.restTemplate = restTemplate;
     }
 
     @Override
     @CircuitBreaker(name = "userService", fallbackMethod = "fallbackCreateUser")
-    public Long createUser(UserDto userDto, String token) {
-        HttpEntity<UserDto> requestEntity = buildRequestEntity(userDto, token);
+    public Long createUser(UserDto userDto, String idempotencyKey, String token) {
+        HttpEntity<UserDto> requestEntity = buildRequestEntity(userDto, idempotencyKey, token);
         String endpoint = userServiceUrl + userApiPath;
 
 
@@ -55,11 +59,26 @@ public class UserClientImpl implements UserClient {
         return extractUserId(response);
     }
 
-    private HttpEntity<UserDto> buildRequestEntity(UserDto userDto, String token) {
+    @Override
+    @CircuitBreaker(name = "userService", fallbackMethod = "fallbackCreateUsers")
+    public List<Long> createUsers(List<UserDto> userDtos, List<String> idempotencyKeys, String token) {
+        HttpEntity<List<UserDto>> requestEntity =
+                buildRequestEntity(userDtos, String.join(",", idempotencyKeys), token);
+        String endpoint = userServiceUrl + userBulkApiPath;
+
+        ResponseEntity<UserDto[]> response = restTemplate.postForEntity(
+                endpoint, requestEntity, UserDto[].class
+        );
+
+        return extractUserIds(response, userDtos.size());
+    }
+
+    private <T> HttpEntity<T> buildRequestEntity(T body, String idempotencyKey, String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(token);
+        headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
         headers.setContentType(MediaType.APPLICATION_JSON);
-        return new HttpEntity<>(userDto, headers);
+        return new HttpEntity<>(body, headers);
     }
 
     private Long extractUserId(ResponseEntity<UserDto> response) {
@@ -73,7 +92,34 @@ public class UserClientImpl implements UserClient {
         throw new ResourceNotFoundException("User ID not returned from UserService. Status: " + status);
     }
 
-    private Long fallbackCreateUser(UserDto userDto, Throwable ex) {
-        throw new ResourceNotFoundException("User service is unavailable. Reason: " + ex.getMessage());
+    private List<Long> extractUserIds(ResponseEntity<UserDto[]> response, int expected) {
+        HttpStatusCode status = response.getStatusCode();
+        UserDto[] body = response.getBody();
+
+        if (status.is2xxSuccessful() && body != null && body.length == expected
+                && Arrays.stream(body).allMatch(user -> user != null && user.getId() != null)) {
+            return Arrays.stream(body).map(UserDto::getId).toList();
+        }
+
+        throw new ResourceNotFoundException("User IDs not returned from UserService. Status: " + status);
+    }
+
+    private Long fallbackCreateUser(UserDto userDto, String idempotencyKey, String token, Throwable ex) {
+        throw unavailable(ex);
+    }
+
+    private List<Long> fallbackCreateUsers(List<UserDto> userDtos, List<String> idempotencyKeys, String token,
+                                           Throwable ex) {
+        throw unavailable(ex);
+    }
+
+    /**
+     * A 4xx answer says the request was rejected, not that the User Service is down, so it is passed on as is.
+     */
+    private static RuntimeException unavailable(Throwable ex) {
+        if (ex instanceof HttpClientErrorException clientError) {
+            return clientError;
+        }
+        return new ResourceNotFoundException("User service is unavailable. Reason: " + ex.getMessage());
     }
 }
@@ -0,0 +1,200 @@
+package com.innowise.authservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.authservice.exception.AuthServiceException;
+import com.innowise.authservice.model.OutboxStatus;
+import com.innowise.authservice.model.dto.UserDto;
+import com.innowise.authservice.model.entity.UserOutboxMessage;
+import com.innowise.authservice.repository.UserOutboxRepository;
+import com.innowise.authservice.secutiry.impl.ServiceTokenProvider;
+import com.innowise.authservice.service.AsyncUserClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @ClassName UserCreationOutbox
+ * @Description Transactional outbox for creating users in the User Service.
+ * Registration only inserts a message in its own transaction; a background dispatcher claims due
+ * messages in batches, calls the User Service outside any transaction and retries failures with
+ * exponential backoff until {@code max-attempts} is reached. Every call carries the auth user id as its
+ * idempotency key, so a retry after a lost response cannot create a second user; a 409 answer counts as delivered,
+ * and other 4xx answers except 408 and 429 fail the message at once. The dispatcher authenticates with the
+ * service's own token from {@link ServiceTokenProvider}, so no caller token is stored or replayed after its
+ * request. Calls of a batch go out together and are coalesced into bulk calls when {@link AsyncUserClient} is
+ * configured to.
+ * @Author dshparko
+ * @Date 19.10.2026 14:20
+ * @Version 1.0
+ */
+@Slf4j
+@Component
+public class UserCreationOutbox {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final UserOutboxRepository repository;
+    private final AsyncUserClient userClient;
+    private final ObjectMapper objectMapper;
+    private final ServiceTokenProvider serviceTokens;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public UserCreationOutbox(
+            UserOutboxRepository repository,
+            AsyncUserClient userClient,
+            ObjectMapper objectMapper,
+            ServiceTokenProvider serviceTokens,
+            @Value("${user-service.outbox.batch-size:50}") int batchSize,
+            @Value("${user-service.outbox.lease:PT1M}") Duration lease,
+            @Value("${user-service.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${user-service.outbox.initial-backoff:PT1S}") Duration initialBackoff,
+            @Value("${user-service.outbox.max-backoff:PT5M}") Duration maxBackoff) {
+        this.repository = repository;
+        this.userClient = userClient;
+        this.objectMapper = objectMapper;
+        this.serviceTokens = serviceTokens;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Records a user creation request. Must be called within the registration transaction so that
+     * the message is committed or rolled back together with the user.
+     *
+     * @param userId  identifier of the registered user
+     * @param userDto user data to send
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long userId, UserDto userDto) {
+        try {
+            repository.save(new UserOutboxMessage(userId, objectMapper.writeValueAsString(userDto)));
+        } catch (JsonProcessingException e) {
+            throw new AuthServiceException("Failed to serialize user data: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Delivers due messages until none are left or a batch comes back partially filled.
+     */
+    @Scheduled(fixedDelayString = "${user-service.outbox.poll-interval:PT1S}",
+            initialDelayString = "${user-service.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        int claimed;
+        do {
+            Instant now = Instant.now();
+            List<UserOutboxMessage> batch = repository.claimBatch(now, now.plus(lease), batchSize);
+            claimed = batch.size();
+            deliver(batch);
+        } while (claimed == batchSize);
+    }
+
+    /**
+     * Sends the whole batch before waiting for any result, so that the client can coalesce the calls.
+     */
+    private void deliver(List<UserOutboxMessage> batch) {
+        String token = serviceTokens.token();
+        Map<UserOutboxMessage, CompletableFuture<Long>> calls = new LinkedHashMap<>();
+        for (UserOutboxMessage message : batch) {
+            try {
+                UserDto userDto = objectMapper.readValue(message.getPayload(), UserDto.class);
+                calls.put(message, userClient.createUser(userDto, idempotencyKey(message), token));
+            } catch (JsonProcessingException e) {
+                giveUp(message, e);
+            }
+        }
+
+        List<Long> delivered = new ArrayList<>(batch.size());
+        calls.forEach((message, call) -> {
+            try {
+                call.join();
+                delivered.add(message.getId());
+            } catch (CompletionException e) {
+                Exception cause = e.getCause() instanceof Exception exception ? exception : e;
+                if (!(cause instanceof HttpClientErrorException rejected)) {
+                    retryLater(message, cause);
+                } else if (rejected.getStatusCode().isSameCodeAs(HttpStatus.CONFLICT)) {
+                    // An earlier attempt whose response was lost has created the user already
+                    log.info("User {} already exists in User Service", message.getUserId());
+                    delivered.add(message.getId());
+                } else if (isRetryable(rejected.getStatusCode())) {
+                    retryLater(message, cause);
+                } else {
+                    giveUp(message, cause);
+                }
+            }
+        });
+        if (!delivered.isEmpty()) {
+            repository.deleteAllByIdInBatch(delivered);
+        }
+    }
+
+    /**
+     * The auth user id: unique per registration and unchanged across retries of its message.
+     */
+    private static String idempotencyKey(UserOutboxMessage message) {
+        return String.valueOf(message.getUserId());
+    }
+
+    /**
+     * A rejected request fails the same way on every retry, unless the User Service asked to come back later.
+     */
+    private static boolean isRetryable(HttpStatusCode status) {
+        return status.isSameCodeAs(HttpStatus.REQUEST_TIMEOUT) || status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private void retryLater(UserOutboxMessage message, Exception e) {
+        if (message.getAttempts() >= maxAttempts) {
+            giveUp(message, e);
+            return;
+        }
+        Duration delay = backoff(message.getAttempts());
+        log.warn("Failed to create user {} in User Service (attempt {}), retrying in {}: {}",
+                message.getUserId(), message.getAttempts(), delay, e.getMessage());
+        repository.markFailed(message.getId(), OutboxStatus.PENDING, Instant.now().plus(delay), error(e));
+    }
+
+    private void giveUp(UserOutboxMessage message, Exception e) {
+        log.error("Giving up creating user {} in User Service after {} attempts: {}",
+                message.getUserId(), message.getAttempts(), e.getMessage());
+        repository.markFailed(message.getId(), OutboxStatus.FAILED, Instant.now(), error(e));
+    }
+
+    /**
+     * Exponential backoff with jitter, so that messages failed together are not retried together.
+     *
+     * @param attempts attempts made so far, starting at 1
+     */
+    Duration backoff(int attempts) {
+        long exponential = initialBackoff.toMillis() << Math.min(Math.max(attempts - 1, 0), 30);
+        long capped = Math.min(exponential, maxBackoff.toMillis());
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private static String error(Exception e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,237 @@
+package com.innowise.authservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.innowise.authservice.exception.AuthServiceException;
+import com.innowise.authservice.model.dto.AuthDto;
+import com.innowise.authservice.model.dto.CredentialsDto;
+import com.innowise.authservice.model.dto.ImportedUser;
+import com.innowise.authservice.model.dto.UserImportResult;
+import com.innowise.authservice.model.entity.IdGeneration;
+import com.innowise.authservice.model.entity.Role;
+import com.innowise.authservice.repository.SequenceIdAllocator;
+import com.innowise.authservice.repository.UserImportRepository;
+import com.innowise.authservice.secutiry.PasswordEncoder;
+import com.innowise.authservice.secutiry.RoleRegistry;
+import com.innowise.authservice.secutiry.impl.PasswordHashingExecutor;
+import com.innowise.authservice.service.UserImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * @ClassName UserImportServiceImpl
+ * @Description Bulk user import. Keeps at most one chunk of records in memory, hashes its passwords in
+ * parallel on the {@link PasswordHashingExecutor} and writes users, credentials and User Service outbox
+ * messages with JDBC batch inserts in one short transaction per chunk.
+ * @Author dshparko
+ * @Date 20.10.2026 10:20
+ * @Version 1.0
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService {
+    private static final byte[] LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final UserImportRepository importRepository;
+    private final SequenceIdAllocator idAllocator;
+    private final RoleRegistry roleRegistry;
+    private final PasswordEncoder encoder;
+    private final PasswordHashingExecutor hashingExecutor;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public UserImportServiceImpl(
+            UserImportRepository importRepository,
+            SequenceIdAllocator idAllocator,
+            RoleRegistry roleRegistry,
+            PasswordEncoder encoder,
+            PasswordHashingExecutor hashingExecutor,
+            Validator validator,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${user-import.chunk-size:500}") int chunkSize) {
+        this.importRepository = importRepository;
+        this.idAllocator = idAllocator;
+        this.roleRegistry = roleRegistry;
+        this.encoder = encoder;
+        this.hashingExecutor = hashingExecutor;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void importUsers(InputStream input, OutputStream output) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(UserImportResult.class);
+        List<AuthDto> chunk = new ArrayList<>(chunkSize);
+        long index = 0;
+        long created = 0;
+
+        try (MappingIterator<AuthDto> records = objectMapper.readerFor(AuthDto.class).readValues(input)) {
+            while (records.hasNextValue()) {
+                chunk.add(records.nextValue());
+                if (chunk.size() == chunkSize) {
+                    created += write(importChunk(index, chunk), writer, output);
+                    index += chunk.size();
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            created += write(importChunk(index, chunk), writer, output);
+            index += chunk.size();
+            write(List.of(UserImportResult.failed(index, null, "Malformed record: " + e.getOriginalMessage())),
+                    writer, output);
+            log.info("User import stopped at malformed record {}, {} users created", index, created);
+            return;
+        }
+        created += write(importChunk(index, chunk), writer, output);
+        log.info("User import finished: {} records, {} users created", index + chunk.size(), created);
+    }
+
+    private List<UserImportResult> importChunk(long firstIndex, List<AuthDto> records) {
+        if (records.isEmpty()) {
+            return List.of();
+        }
+        UserImportResult[] results = new UserImportResult[records.size()];
+        List<Accepted> candidates = new ArrayList<>(records.size());
+        Set<String> emails = new HashSet<>();
+
+        for (int i = 0; i < records.size(); i++) {
+            AuthDto record = records.get(i);
+            String email = record.getCredentials() != null ? record.getCredentials().email() : null;
+            String error = validate(record);
+            if (error == null) {
+                String roleName = record.getCredentials().role().toUpperCase(Locale.ROOT);
+                Optional<Role> role = roleRegistry.findByName(roleName);
+                if (role.isEmpty()) {
+                    error = "Role '%s' was not found".formatted(roleName);
+                } else if (!emails.add(email)) {
+                    error = "Email " + email + " is repeated in the import";
+                } else {
+                    candidates.add(new Accepted(i, record, role.get()));
+                }
+            }
+            if (error != null) {
+                results[i] = UserImportResult.failed(firstIndex + i, email, error);
+            }
+        }
+
+        Set<String> existing = importRepository.findExistingEmails(emails);
+        List<Accepted> accepted = new ArrayList<>(candidates.size());
+        for (Accepted candidate : candidates) {
+            if (existing.contains(candidate.email())) {
+                results[candidate.position()] = UserImportResult.failed(firstIndex + candidate.position(),
+                        candidate.email(), "Email " + candidate.email() + " is already in use");
+            } else {
+                accepted.add(candidate);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return List.of(results);
+        }
+
+        List<Supplier<String[]>> hashing = accepted.stream()
+                .map(candidate -> (Supplier<String[]>) () -> {
+                    String salt = encoder.generateSalt();
+                    return new String[]{salt, encoder.encode(candidate.record().getCredentials().password(), salt)};
+                })
+                .toList();
+        List<String[]> hashes = hashingExecutor.executeAll(hashing);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> userIds = idAllocator.allocate(IdGeneration.USERS_SEQUENCE, accepted.size());
+                List<ImportedUser> users = new ArrayList<>(accepted.size());
+                for (int i = 0; i < accepted.size(); i++) {
+                    Accepted candidate = accepted.get(i);
+                    users.add(new ImportedUser(firstIndex + candidate.position(), userIds.get(i),
+                            candidate.role().getId(), candidate.email(), hashes.get(i)[1], hashes.get(i)[0],
+                            serialize(candidate.record())));
+                }
+                importRepository.insert(users);
+                for (int i = 0; i < users.size(); i++) {
+                    ImportedUser user = users.get(i);
+                    results[accepted.get(i).position()] =
+                            UserImportResult.created(user.index(), user.email(), user.userId());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("User import chunk at record {} conflicted with concurrent registrations", firstIndex);
+            for (Accepted candidate : accepted) {
+                results[candidate.position()] = UserImportResult.failed(firstIndex + candidate.position(),
+                        candidate.email(), "Conflicts with a concurrent registration, retry the record");
+            }
+        }
+        return List.of(results);
+    }
+
+    private String validate(AuthDto record) {
+        if (record.getCredentials() == null) {
+            return "Credentials are missing";
+        }
+        if (record.getUserData() == null) {
+            return "User data is missing";
+        }
+        Set<ConstraintViolation<CredentialsDto>> violations = validator.validate(record.getCredentials());
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (record.getCredentials().role() == null) {
+            return "Role must not be blank";
+        }
+        return null;
+    }
+
+    private String serialize(AuthDto record) {
+        try {
+            return objectMapper.writeValueAsString(record.getUserData());
+        } catch (JsonProcessingException e) {
+            throw new AuthServiceException("Failed to serialize user data: " + e.getMessage());
+        }
+    }
+
+    private static long write(List<UserImportResult> results, ObjectWriter writer, OutputStream output)
+            throws IOException {
+        long created = 0;
+        for (UserImportResult result : results) {
+            output.write(writer.writeValueAsBytes(result));
+            output.write(LINE_SEPARATOR);
+            if (result.userId() != null) {
+                created++;
+            }
+        }
+        output.flush();
+        return created;
+    }
+
+    private record Accepted(int position, AuthDto record, Role role) {
+        String email() {
+            return record.getCredentials().email();
+        }
+    }
+}
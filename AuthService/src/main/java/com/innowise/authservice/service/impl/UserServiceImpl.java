@@ -3,17 +3,20 @@ package com.innowise.authservice.service.impl;
 import com.innowise.authservice.exception.ResourceAlreadyUsedException;
 import com.innowise.authservice.exception.ResourceNotFoundException;
 import com.innowise.authservice.model.dto.AuthDto;
-import com.innowise.authservice.model.entity.Credential;
+import com.innowise.authservice.model.entity.IdGeneration;
 import com.innowise.authservice.model.entity.Role;
 import com.innowise.authservice.model.entity.User;
 import com.innowise.authservice.repository.CredentialRepository;
+import com.innowise.authservice.repository.SequenceIdAllocator;
 import com.innowise.authservice.repository.UserRepository;
 import com.innowise.authservice.secutiry.PasswordEncoder;
-import com.innowise.authservice.service.UserClient;
+import com.innowise.authservice.secutiry.impl.PasswordHashingExecutor;
+import com.innowise.authservice.secutiry.impl.PrincipalCache;
+import com.innowise.authservice.secutiry.impl.UserPrincipal;
 import com.innowise.authservice.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @ClassName UserService
@@ -28,36 +31,45 @@ public class UserServiceImpl implements UserService {
 
     private final CredentialRepository credentialRepository;
     private final UserRepository userRepository;
+    private final SequenceIdAllocator idAllocator;
     private final PasswordEncoder encoder;
+    private final PasswordHashingExecutor hashingExecutor;
+    private final PrincipalCache principalCache;
+    private final UserCreationOutbox userCreationOutbox;
+    private final TransactionTemplate transactionTemplate;
 
-    private final UserClient userClient;
-
-    @Transactional
-    public void register(AuthDto request, Role role, String token) {
-        if (credentialRepository.existsByEmail(request.getCredentials().email())) {
-            throw new ResourceAlreadyUsedException("Email " + request.getCredentials().email() + " is already in use");
-        }
-
-        User user = new User();
-        user.setRole(role);
-        userRepository.save(user);
-
+    /**
+     * Hashes the password before the transaction opens, so that no pooled connection is held
+     * while the hash waits for and runs on the {@link PasswordHashingExecutor}.
+     */
+    public void register(AuthDto request, Role role) {
+        String email = request.getCredentials().email();
         String salt = encoder.generateSalt();
-        String hash = encoder.encode(request.getCredentials().password(), salt);
+        String hash = hashingExecutor.execute(() -> encoder.encode(request.getCredentials().password(), salt));
 
-        Credential credential = new Credential();
-        credential.setEmail(request.getCredentials().email());
-        credential.setSalt(salt);
-        credential.setPasswordHash(hash);
-        credential.setUser(user);
-        credentialRepository.save(credential);
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = new User();
+            user.setRole(role);
+            userRepository.saveAndFlush(user);
 
-        userClient.createUser(request.getUserData(), token);
+            // The user row is rolled back together with the transaction when the email turns out to be taken
+            long credentialId = idAllocator.next(IdGeneration.CREDENTIALS_SEQUENCE);
+            credentialRepository.insertIfAbsent(credentialId, email, hash, salt, user.getId())
+                    .orElseThrow(() -> new ResourceAlreadyUsedException("Email " + email + " is already in use"));
+
+            userCreationOutbox.enqueue(user.getId(), request.getUserData());
+        });
     }
 
     public User findById(Long id) {
-        return credentialRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User with id " + id + "not found"))
-                .getUser();
+        return userRepository.findWithRoleById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User with id " + id + " not found"));
+    }
+
+    public UserPrincipal loadPrincipal(Long id) {
+        return principalCache.get(id, userId -> {
+            User user = findById(userId);
+            return new UserPrincipal(user.getId(), user.getRole().getName(), user.isActive(), null, null);
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+--changeset dshparko:1
+CREATE TABLE IF NOT EXISTS revoked_tokens
+(
+    jti        UUID PRIMARY KEY,
+    expires_at TIMESTAMP WITH TIME ZONE              NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE DEFAULT now() NOT NULL
+);
+
+--changeset dshparko:2
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
@@ -0,0 +1,18 @@
+--liquibase formatted sql
+
+--changeset dshparko:1
+CREATE TABLE IF NOT EXISTS user_outbox
+(
+    id              BIGSERIAL PRIMARY KEY,
+    user_id         BIGINT                                  NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    payload         TEXT                                    NOT NULL,
+    token           TEXT,
+    status          VARCHAR(16)              DEFAULT 'PENDING' NOT NULL,
+    attempts        INT                      DEFAULT 0      NOT NULL,
+    next_attempt_at TIMESTAMP WITH TIME ZONE DEFAULT now()  NOT NULL,
+    last_error      TEXT,
+    created_at      TIMESTAMP WITH TIME ZONE DEFAULT now()  NOT NULL
+);
+
+--changeset dshparko:2
+CREATE INDEX IF NOT EXISTS idx_user_outbox_pending ON user_outbox (next_attempt_at) WHERE status = 'PENDING';
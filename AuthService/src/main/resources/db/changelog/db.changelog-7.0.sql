@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+--changeset dshparko:1
+-- Ids are allocated in blocks of 50 (Hibernate pooled optimizer): nextval returns the upper bound of a block
+-- that its caller owns exclusively. Must match IdGeneration.ALLOCATION_SIZE.
+ALTER SEQUENCE roles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE credentials_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_outbox_id_seq INCREMENT BY 50;
@@ -0,0 +1,5 @@
+--liquibase formatted sql
+
+--changeset dshparko:1
+-- The dispatcher authenticates to the User Service with its own service token, caller tokens are not kept at rest
+ALTER TABLE user_outbox DROP COLUMN token;
@@ -0,0 +1,127 @@
+package com.innowise.authservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.dto.UserImportResult;
+import com.innowise.authservice.repository.CredentialRepository;
+import com.innowise.authservice.repository.UserOutboxRepository;
+import com.innowise.authservice.secutiry.JwtService;
+import com.innowise.authservice.secutiry.impl.UserPrincipal;
+import com.innowise.authservice.service.UserClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "password.pbkdf2.iterations=1000",
+        "jwt.filter.stateless=true",
+        "jwt.revocation.sync-interval=PT1H",
+        "user-service.url=http://localhost",
+        "user-service.outbox.poll-interval=PT1H"
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class AdminControllerTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("jwt.secret",
+                () -> Base64.getEncoder().encodeToString("admin-controller-test-secret-key".getBytes()));
+    }
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    JwtService jwtService;
+    @Autowired
+    CredentialRepository credentialRepository;
+    @Autowired
+    UserOutboxRepository outboxRepository;
+    @MockitoBean
+    UserClient userClient;
+
+    @Test
+    void importUsers_shouldCreateUsersAndReportEachRecord() throws Exception {
+        String first = "import-" + UUID.randomUUID() + "@example.com";
+        String second = "import-" + UUID.randomUUID() + "@example.com";
+        long outboxBefore = outboxRepository.count();
+        String body = String.join("\n", record(first), record(second), record(first));
+
+        String response = mockMvc.perform(post("/api/v1/admin/users/import")
+                        .header("Authorization", "Bearer " + token(RoleEnum.ADMIN))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<UserImportResult> results = objectMapper.readerFor(UserImportResult.class)
+                .<UserImportResult>readValues(response).readAll();
+        assertEquals(3, results.size());
+        assertNotNull(results.get(0).userId());
+        assertNotNull(results.get(1).userId());
+        assertEquals("Email " + first + " is repeated in the import", results.get(2).error());
+        assertEquals(results.get(0).userId(), credentialRepository.findLoginByEmail(first).orElseThrow().userId());
+        assertTrue(credentialRepository.findLoginByEmail(second).orElseThrow().active());
+        assertEquals(outboxBefore + 2, outboxRepository.count());
+    }
+
+    @Test
+    void importUsers_shouldBeForbidden_whenCallerIsNotAdmin() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/users/import")
+                        .header("Authorization", "Bearer " + token(RoleEnum.USER))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(record("forbidden@example.com")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void passwordHashingEndpoint_shouldBeRestrictedToAdmin() throws Exception {
+        mockMvc.perform(post("/actuator/passwordhashing")
+                        .header("Authorization", "Bearer " + token(RoleEnum.USER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetMillis\":100000}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/passwordhashing")
+                        .header("Authorization", "Bearer " + token(RoleEnum.ADMIN)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    private String token(RoleEnum role) {
+        return jwtService.generateAccessToken(new UserPrincipal(1L, role.name(), true, null, null));
+    }
+
+    private static String record(String email) {
+        return "{\"userData\":{\"name\":\"Test\",\"email\":\"%s\"},\"credentials\":{\"email\":\"%s\",\"password\":\"password\",\"role\":\"user\"}}"
+                .formatted(email, email);
+    }
+}
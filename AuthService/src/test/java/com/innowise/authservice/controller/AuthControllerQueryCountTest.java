@@ -0,0 +1,184 @@
+package com.innowise.authservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.authservice.repository.UserRepository;
+import com.innowise.authservice.service.UserClient;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Locks in the number of SQL statements each endpoint issues, so that a mapping change which brings back
+ * eager or N+1 loading fails the build.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "password.pbkdf2.iterations=1000",
+        "jwt.revocation.sync-interval=PT1H",
+        "user-service.url=http://localhost",
+        "user-service.outbox.poll-interval=PT1H"
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class AuthControllerQueryCountTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("jwt.secret",
+                () -> Base64.getEncoder().encodeToString("query-count-test-secret-key-0123".getBytes()));
+    }
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    UserRepository userRepository;
+    @MockitoBean
+    UserClient userClient;
+
+    private Statistics statistics;
+    private String email;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        email = "user-" + UUID.randomUUID() + "@example.com";
+    }
+
+    @Test
+    void register_shouldInsertUserCredentialAndOutboxMessage() throws Exception {
+        // Ids come from pooled sequences: the first registration fetches the blocks, later ones reuse them
+        register();
+        email = "user-" + UUID.randomUUID() + "@example.com";
+
+        assertEquals(3, statements(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(registration()), 201));
+    }
+
+    @Test
+    void register_shouldRollBackUser_whenEmailIsTaken() throws Exception {
+        register();
+        long users = userRepository.count();
+
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(registration()))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(users, userRepository.count());
+    }
+
+    @Test
+    void login_shouldUseSingleStatement() throws Exception {
+        register();
+
+        assertEquals(1, statements(login(), 200));
+    }
+
+    @Test
+    void refresh_shouldUseSingleStatement() throws Exception {
+        register();
+        String refreshToken = tokens().get("refreshToken").asText();
+
+        assertEquals(1, statements(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"token\":\"" + refreshToken + "\"}"), 200));
+    }
+
+    @Test
+    void authenticatedRequest_shouldLoadPrincipalWithSingleStatement() throws Exception {
+        register();
+        String accessToken = tokens().get("accessToken").asText();
+
+        // The principal is loaded before authorization turns the USER away from the actuator
+        assertEquals(1, statements(get("/actuator/passwordhashing")
+                .header("Authorization", "Bearer " + accessToken), 403));
+    }
+
+    @Test
+    void validateBatch_shouldAnswerPerToken_withoutStatements() throws Exception {
+        register();
+        String accessToken = tokens().get("accessToken").asText();
+
+        assertEquals(0, statements(post("/api/v1/auth/validate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[null,{\"token\":\"not-a-jwt\"},{\"token\":\"" + accessToken + "\"}]"), 200));
+    }
+
+    @Test
+    void validateBatch_shouldReportBlankTokenAsInvalidEntry() throws Exception {
+        register();
+        String accessToken = tokens().get("accessToken").asText();
+
+        mockMvc.perform(post("/api/v1/auth/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"token\":\" \"},{\"token\":\"" + accessToken + "\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].error").value("Token is missing or empty"))
+                .andExpect(jsonPath("$[0].info").doesNotExist())
+                .andExpect(jsonPath("$[1].info.role").value("USER"));
+    }
+
+    private long statements(RequestBuilder request, int expectedStatus) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().is(expectedStatus));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void register() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(registration()))
+                .andExpect(status().isCreated());
+    }
+
+    private JsonNode tokens() throws Exception {
+        String body = mockMvc.perform(login()).andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private RequestBuilder login() {
+        return post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"secret-password\"}");
+    }
+
+    private String registration() {
+        return "{\"userData\":{\"name\":\"Test\",\"surname\":\"User\",\"email\":\"" + email + "\"},"
+                + "\"credentials\":{\"email\":\"" + email + "\",\"password\":\"secret-password\",\"role\":\"user\"}}";
+    }
+}
@@ -0,0 +1,95 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.dto.LoginCredential;
+import com.innowise.authservice.model.entity.Credential;
+import com.innowise.authservice.model.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class CredentialRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    CredentialRepository credentialRepository;
+    @Autowired
+    RoleRepository roleRepository;
+    @Autowired
+    TestEntityManager entityManager;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setRole(roleRepository.findByName(RoleEnum.MODERATOR.name()).orElseThrow());
+        userId = entityManager.persist(user).getId();
+
+        Credential credential = new Credential();
+        credential.setEmail("login-query@example.com");
+        credential.setPasswordHash("hash");
+        credential.setSalt("salt");
+        credential.setUser(user);
+        entityManager.persist(credential);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findLoginByEmail_shouldLoadLoginDataWithSingleStatement() {
+        LoginCredential login = credentialRepository.findLoginByEmail("login-query@example.com").orElseThrow();
+
+        assertEquals("hash", login.passwordHash());
+        assertEquals("salt", login.salt());
+        assertEquals(RoleEnum.MODERATOR.name(), login.role());
+        assertTrue(login.active());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void insertIfAbsent_shouldInsertWithSingleStatement_unlessEmailIsTaken() {
+        assertEquals(Optional.of(1_000_001L), credentialRepository.insertIfAbsent(
+                1_000_001L, "conditional-insert@example.com", "hash", "salt", userId));
+        assertEquals(Optional.empty(), credentialRepository.insertIfAbsent(
+                1_000_002L, "login-query@example.com", "hash", "salt", userId));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertTrue(credentialRepository.findById(1_000_002L).isEmpty());
+    }
+}
@@ -0,0 +1,59 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.model.entity.RevokedToken;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class RevokedTokenRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    RevokedTokenRepository revokedTokenRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void insertIfAbsent_shouldStoreRevocationOnceWithDatabaseTimestamp() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        UUID jti = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.MICROS);
+        statistics.clear();
+
+        assertEquals(1, revokedTokenRepository.insertIfAbsent(jti, expiresAt));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, revokedTokenRepository.insertIfAbsent(jti, expiresAt.plusSeconds(60)));
+
+        RevokedToken stored = revokedTokenRepository.findById(jti).orElseThrow();
+        assertEquals(expiresAt, stored.getExpiresAt());
+        assertNotNull(stored.getRevokedAt());
+    }
+}
@@ -0,0 +1,87 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.config.EntityCacheCustomizer;
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.entity.Role;
+import com.innowise.authservice.model.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest(properties = "auth.entity-cache.enabled=true")
+@Import(EntityCacheCustomizer.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class SecondLevelCacheTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    RoleRepository roleRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findByName_shouldBeServedFromCache_whenRoleWasLoadedBefore() {
+        roleRepository.findByName(RoleEnum.USER.name()).orElseThrow();
+        statistics.clear();
+
+        Role role = roleRepository.findByName(RoleEnum.USER.name()).orElseThrow();
+
+        assertEquals(RoleEnum.USER.name(), role.getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithRoleById_shouldBeServedFromCache_untilUserChanges() {
+        User user = new User();
+        user.setRole(roleRepository.findByName(RoleEnum.MODERATOR.name()).orElseThrow());
+        Long id = userRepository.save(user).getId();
+        userRepository.findWithRoleById(id).orElseThrow();
+        statistics.clear();
+
+        User cached = userRepository.findWithRoleById(id).orElseThrow();
+
+        assertEquals(RoleEnum.MODERATOR.name(), cached.getRole().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        cached.setActive(false);
+        userRepository.save(cached);
+
+        assertFalse(userRepository.findWithRoleById(id).orElseThrow().isActive());
+    }
+}
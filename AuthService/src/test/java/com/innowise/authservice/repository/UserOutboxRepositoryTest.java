@@ -0,0 +1,64 @@
+package com.innowise.authservice.repository;
+
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.entity.User;
+import com.innowise.authservice.model.entity.UserOutboxMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class UserOutboxRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    UserOutboxRepository outboxRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Test
+    void claimBatch_shouldLeaseMessages_soThatTheyAreNotClaimedTwice() {
+        User user = new User();
+        user.setRole(roleRepository.findByName(RoleEnum.USER.name()).orElseThrow());
+        Long userId = userRepository.save(user).getId();
+        outboxRepository.saveAll(List.of(
+                new UserOutboxMessage(userId, "{}"),
+                new UserOutboxMessage(userId, "{}")));
+        Instant now = Instant.now();
+
+        List<UserOutboxMessage> first = outboxRepository.claimBatch(now, now.plusSeconds(60), 10);
+        List<UserOutboxMessage> second = outboxRepository.claimBatch(now, now.plusSeconds(60), 10);
+
+        assertTrue(first.size() >= 2);
+        assertTrue(first.stream().allMatch(message -> message.getAttempts() == 1));
+        assertEquals(0, second.size());
+    }
+}
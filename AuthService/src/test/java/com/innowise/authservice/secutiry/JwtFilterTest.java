@@ -0,0 +1,103 @@
+package com.innowise.authservice.secutiry;
+
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.secutiry.impl.UserPrincipal;
+import com.innowise.authservice.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static com.innowise.authservice.secutiry.AuthConstant.ACCESS_TYPE;
+import static com.innowise.authservice.secutiry.AuthConstant.SERVICE_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtFilterTest {
+
+    @Mock
+    JwtService jwtService;
+    @Mock
+    UserService userService;
+
+    @InjectMocks
+    JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtFilter, "stateless", true);
+        ReflectionTestUtils.setField(jwtFilter, "maxClaimAge", Duration.ofMinutes(15));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldBuildPrincipalFromClaims_whenClaimsAreFresh() throws Exception {
+        when(jwtService.verify("token")).thenReturn(token(true, Instant.now()));
+
+        Authentication authentication = filter();
+
+        assertEquals(7L, ((UserPrincipal) authentication.getPrincipal()).userId());
+        assertEquals(RoleEnum.ADMIN.name(), authentication.getAuthorities().iterator().next().getAuthority());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void doFilter_shouldLoadUser_whenClaimsAreStale() throws Exception {
+        when(jwtService.verify("token")).thenReturn(token(true, Instant.now().minus(Duration.ofHours(1))));
+        when(userService.loadPrincipal(7L)).thenReturn(new UserPrincipal(7L, RoleEnum.USER.name(), true, null, null));
+
+        Authentication authentication = filter();
+
+        assertEquals(RoleEnum.USER.name(), authentication.getAuthorities().iterator().next().getAuthority());
+        verify(userService).loadPrincipal(7L);
+    }
+
+    @Test
+    void doFilter_shouldNotAuthenticate_whenUserIsInactive() throws Exception {
+        when(jwtService.verify("token")).thenReturn(token(false, Instant.now()));
+
+        assertNull(filter());
+    }
+
+    @Test
+    void doFilter_shouldNotAuthenticate_withServiceToken() throws Exception {
+        when(jwtService.verify("token")).thenReturn(new VerifiedToken("0", RoleEnum.ADMIN.name(), SERVICE_TYPE,
+                Instant.now().plusSeconds(3600), UUID.randomUUID(), true, Instant.now()));
+
+        assertNull(filter());
+        verifyNoInteractions(userService);
+    }
+
+    private Authentication filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AuthConstant.AUTH_HEADER, AuthConstant.TOKEN_PREFIX + "token");
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static VerifiedToken token(boolean active, Instant issuedAt) {
+        return new VerifiedToken("7", RoleEnum.ADMIN.name(), ACCESS_TYPE, Instant.now().plusSeconds(3600),
+                UUID.randomUUID(), active, issuedAt);
+    }
+}
@@ -0,0 +1,122 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.exception.ServiceUnavailableException;
+import com.innowise.authservice.model.entity.RevokedToken;
+import com.innowise.authservice.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BloomTokenDenylistTest {
+    private static final DataSize ONE_ENTRY = DataSize.ofBytes(72);
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final BloomTokenDenylist denylist =
+            new BloomTokenDenylist(repository, 1000, 0.01, DataSize.ofMegabytes(1), Duration.ofSeconds(5));
+
+    @Test
+    void isRevoked_shouldReturnTrueOnlyForRevokedTokens() {
+        UUID revoked = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        denylist.revoke(revoked, expiresAt);
+
+        assertTrue(denylist.isRevoked(revoked));
+        assertFalse(denylist.isRevoked(UUID.randomUUID()));
+        assertFalse(denylist.isRevoked(null));
+        verify(repository).insertIfAbsent(revoked, expiresAt);
+    }
+
+    @Test
+    void prune_shouldForgetExpiredRevocations_andKeepLiveOnes() {
+        List<UUID> expired = IntStream.range(0, 3000).mapToObj(i -> UUID.randomUUID()).toList();
+        expired.forEach(jti -> denylist.revoke(jti, Instant.now().minusSeconds(1)));
+        UUID live = UUID.randomUUID();
+        denylist.revoke(live, Instant.now().plusSeconds(60));
+
+        denylist.prune();
+
+        assertTrue(denylist.isRevoked(live));
+        assertTrue(expired.stream().noneMatch(denylist::isRevoked));
+        verify(repository).deleteExpired(any());
+    }
+
+    @Test
+    void sync_shouldPickUpRevocationsFromOtherInstances() {
+        UUID jti = UUID.randomUUID();
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(new RevokedToken(jti, Instant.now().plusSeconds(60))));
+
+        denylist.sync();
+
+        assertTrue(denylist.isRevoked(jti));
+    }
+
+    @Test
+    void sync_shouldStartNextWindowAtLatestDatabaseTimestamp() {
+        // The database clock is an hour behind this instance
+        Instant revokedAt = Instant.now().minus(Duration.ofHours(1));
+        RevokedToken token = new RevokedToken(UUID.randomUUID(), Instant.now().plusSeconds(60));
+        token.setRevokedAt(revokedAt);
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of(token), List.of());
+
+        denylist.sync();
+        denylist.sync();
+
+        verify(repository).findByRevokedAtAfterAndExpiresAtAfter(eq(revokedAt.minusSeconds(5)), any());
+    }
+
+    @Test
+    void revoke_shouldFailWithServiceUnavailable_whenListIsFull() {
+        BloomTokenDenylist full = new BloomTokenDenylist(repository, 1000, 0.01, ONE_ENTRY, Duration.ofSeconds(5));
+        full.revoke(UUID.randomUUID(), Instant.now().plusSeconds(60));
+        UUID rejected = UUID.randomUUID();
+
+        assertThrows(ServiceUnavailableException.class, () -> full.revoke(rejected, Instant.now().plusSeconds(60)));
+
+        verify(repository, never()).insertIfAbsent(eq(rejected), any());
+    }
+
+    @Test
+    void sync_shouldRespectLimit_andPickUpRestAfterPrune() {
+        BloomTokenDenylist small = new BloomTokenDenylist(repository, 1000, 0.01, ONE_ENTRY, Duration.ofSeconds(5));
+        UUID expiring = UUID.randomUUID();
+        RevokedToken waiting = new RevokedToken(UUID.randomUUID(), Instant.now().plusSeconds(60));
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(new RevokedToken(expiring, Instant.now().minusSeconds(1)), waiting))
+                .thenReturn(List.of(waiting));
+
+        small.sync();
+        assertFalse(small.isRevoked(waiting.getJti()));
+
+        small.prune();
+        small.sync();
+        assertTrue(small.isRevoked(waiting.getJti()));
+    }
+
+    @Test
+    void maxEntriesFor_shouldFitGrowingTableInBudget() {
+        assertEquals(1, RevokedTokenTable.maxEntriesFor(ONE_ENTRY.toBytes()));
+        assertEquals(1 << 20, RevokedTokenTable.maxEntriesFor(DataSize.ofMegabytes(128).toBytes()));
+
+        int entries = RevokedTokenTable.maxEntriesFor(DataSize.ofMegabytes(100).toBytes());
+        // Table at half load plus the table it was rehashed from, 24 bytes per slot
+        assertTrue((entries * 2L + entries) * 24 <= DataSize.ofMegabytes(100).toBytes());
+    }
+}
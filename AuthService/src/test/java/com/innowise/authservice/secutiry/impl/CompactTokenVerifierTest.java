@@ -0,0 +1,91 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.entity.Role;
+import com.innowise.authservice.model.entity.User;
+import com.innowise.authservice.repository.RevokedTokenRepository;
+import com.innowise.authservice.secutiry.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static com.innowise.authservice.secutiry.AuthConstant.REFRESH_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class CompactTokenVerifierTest {
+
+    private static final String SECRET =
+            Base64.getEncoder().encodeToString("compact-verifier-test-secret-key".getBytes());
+    private static final long HOUR_MS = 3_600_000;
+
+    private final ReloadableKeyRing keyRing = new ReloadableKeyRing(SignatureAlgorithm.HS256, SECRET, "", "", "");
+    private final CompactTokenVerifier verifier = new CompactTokenVerifier(keyRing);
+    private final JwtServiceImpl jwtService = new JwtServiceImpl(keyRing, HOUR_MS, HOUR_MS, false,
+            new VerifiedTokenCache(false, 0, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)),
+            new BloomTokenDenylist(mock(RevokedTokenRepository.class), 1000, 0.01, DataSize.ofMegabytes(1), Duration.ofSeconds(5)));
+
+    @Test
+    void tryVerify_shouldReturnSameClaimsAsFullParser_whenTokenIssuedByService() {
+        String token = jwtService.generateRefreshToken(principal());
+
+        VerifiedToken fast = verifier.tryVerify(token);
+
+        assertEquals(jwtService.verify(token), fast);
+        assertSame(RoleEnum.MODERATOR.name(), fast.role());
+        assertSame(REFRESH_TYPE, fast.type());
+    }
+
+    @Test
+    void tryVerify_shouldFallBack_whenSignatureIsTampered() {
+        String token = jwtService.generateAccessToken(principal());
+        int position = token.length() - 2;
+        char replacement = token.charAt(position) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, position) + replacement + token.substring(position + 1);
+
+        assertNull(verifier.tryVerify(tampered));
+    }
+
+    @Test
+    void tryVerify_shouldFallBack_whenTokenHasUnknownClaim() {
+        String token = Jwts.builder()
+                .setSubject("7")
+                .claim("scope", "admin")
+                .setExpiration(new Date(System.currentTimeMillis() + HOUR_MS))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertNull(verifier.tryVerify(token));
+    }
+
+    @Test
+    void tryVerify_shouldFallBack_whenTokenIsExpired() {
+        String token = Jwts.builder()
+                .setSubject("7")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertNull(verifier.tryVerify(token));
+    }
+
+    private static UserPrincipal principal() {
+        Role role = new Role();
+        role.setName(RoleEnum.MODERATOR.name());
+        User user = new User();
+        user.setId(7L);
+        user.setRole(role);
+        return UserPrincipal.of(user);
+    }
+}
@@ -0,0 +1,34 @@
+package com.innowise.authservice.secutiry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DelegatingPasswordEncoderTest {
+
+    private final SaltedPasswordEncoder legacy = new SaltedPasswordEncoder();
+
+    @Test
+    void matches_shouldVerifyLegacyHash_andRequestRehash() {
+        DelegatingPasswordEncoder encoder = encoder(1_000);
+        String legacyHash = legacy.encode("secret", "salt");
+
+        assertTrue(encoder.matches("secret", "salt", legacyHash));
+        assertFalse(encoder.matches("wrong", "salt", legacyHash));
+        assertTrue(encoder.needsRehash(legacyHash));
+    }
+
+    @Test
+    void needsRehash_shouldDetectChangedIterationCount() {
+        String hash = encoder(1_000).encode("secret", "salt");
+
+        assertFalse(encoder(1_000).needsRehash(hash));
+        assertTrue(encoder(2_000).needsRehash(hash));
+        assertTrue(encoder(2_000).matches("secret", "salt", hash));
+    }
+
+    private DelegatingPasswordEncoder encoder(int iterations) {
+        return new DelegatingPasswordEncoder(new Pbkdf2PasswordEncoder(iterations), legacy, "pbkdf2");
+    }
+}
@@ -0,0 +1,52 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.entity.Role;
+import com.innowise.authservice.repository.RoleRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EnumRoleRegistryTest {
+
+    private final RoleRepository roleRepository = mock(RoleRepository.class);
+
+    @Test
+    void findByName_shouldServeRolesFromMemory_afterLoad() {
+        when(roleRepository.findAll()).thenReturn(roles());
+        EnumRoleRegistry registry = new EnumRoleRegistry(roleRepository);
+        registry.load();
+
+        assertEquals(2L, registry.findByName("MODERATOR").orElseThrow().getId());
+        assertTrue(registry.findByName("SUPERUSER").isEmpty());
+        assertTrue(registry.findByName(null).isEmpty());
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void getAuthorities_shouldReturnSharedInstance() {
+        UserPrincipal first = new UserPrincipal(1L, RoleEnum.ADMIN.name(), true, null, null);
+        UserPrincipal second = new UserPrincipal(2L, RoleEnum.ADMIN.name(), true, null, null);
+
+        assertSame(first.getAuthorities(), second.getAuthorities());
+        assertEquals(RoleEnum.ADMIN.name(), first.getAuthorities().iterator().next().getAuthority());
+    }
+
+    private static List<Role> roles() {
+        return Arrays.stream(RoleEnum.values()).map(value -> {
+            Role role = new Role();
+            role.setId((long) value.ordinal() + 1);
+            role.setName(value.name());
+            return role;
+        }).toList();
+    }
+}
@@ -0,0 +1,182 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.exception.InvalidResourceException;
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.dto.JsonWebKey;
+import com.innowise.authservice.model.entity.Role;
+import com.innowise.authservice.model.entity.User;
+import com.innowise.authservice.repository.RevokedTokenRepository;
+import com.innowise.authservice.secutiry.AuthConstant;
+import com.innowise.authservice.secutiry.VerifiedToken;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Base64;
+
+import static com.innowise.authservice.secutiry.AuthConstant.ACCESS_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class JwtServiceImplTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final long HOUR_MS = 3_600_000;
+
+    @TempDir
+    Path keyDir;
+
+    @Test
+    void verify_shouldReturnClaims_whenTokenSignedWithHmac() {
+        JwtServiceImpl jwtService = hmacService();
+
+        VerifiedToken verified = jwtService.verify(jwtService.generateAccessToken(principal()));
+
+        assertEquals("42", verified.userId());
+        assertEquals(RoleEnum.ADMIN.name(), verified.role());
+        assertEquals(ACCESS_TYPE, verified.type());
+        assertTrue(jwtService.publicKeys().keys().isEmpty());
+    }
+
+    @Test
+    void generateServiceToken_shouldIssueServiceTypeWithServiceRole() {
+        JwtServiceImpl jwtService = hmacService();
+
+        VerifiedToken verified = jwtService.verify(jwtService.generateServiceToken(
+                new UserPrincipal(0L, AuthConstant.SERVICE_ROLE, true, null, null)));
+
+        assertEquals(AuthConstant.SERVICE_TYPE, verified.type());
+        assertEquals(AuthConstant.SERVICE_ROLE, verified.role());
+    }
+
+    @Test
+    void verify_shouldReturnClaims_whenTokenSignedWithEcdsa() throws Exception {
+        JwtServiceImpl jwtService = ecdsaService();
+
+        VerifiedToken verified = jwtService.verify(jwtService.generateRefreshToken(principal()));
+
+        assertEquals("42", verified.userId());
+        assertTrue(verified.isRefresh());
+
+        JsonWebKey jwk = jwtService.publicKeys().keys().get(0);
+        assertEquals("EC", jwk.kty());
+        assertEquals("P-256", jwk.crv());
+        assertEquals("ES256", jwk.alg());
+    }
+
+    @Test
+    void verify_shouldThrow_whenTokenIsTampered() {
+        JwtServiceImpl jwtService = hmacService();
+        String token = jwtService.generateAccessToken(principal());
+
+        assertThrows(InvalidResourceException.class, () -> jwtService.verify(token + "x"));
+    }
+
+    @Test
+    void verify_shouldThrow_whenTokenIsRevoked() {
+        BloomTokenDenylist denylist = denylist();
+        JwtServiceImpl jwtService = new JwtServiceImpl(new ReloadableKeyRing(SignatureAlgorithm.HS256, SECRET, "", "", ""),
+                HOUR_MS, HOUR_MS, false, disabledCache(), denylist);
+        String token = jwtService.generateAccessToken(principal());
+        String other = jwtService.generateAccessToken(principal());
+        VerifiedToken verified = jwtService.verify(token);
+        assertNotNull(verified.jti());
+
+        denylist.revoke(verified.jti(), verified.expiresAt());
+
+        InvalidResourceException e = assertThrows(InvalidResourceException.class, () -> jwtService.verify(token));
+        assertEquals("Token has been revoked", e.getMessage());
+        assertEquals("42", jwtService.verify(other).userId());
+    }
+
+    @Test
+    void verify_shouldAcceptRetiredKey_afterKeyRingRotation() throws Exception {
+        Path keyRingFile = keyDir.resolve("keyring.json");
+        Files.writeString(keyRingFile, keyRingJson("k1", "k1"));
+        ReloadableKeyRing keyRing =
+                new ReloadableKeyRing(SignatureAlgorithm.HS256, "", "", "", keyRingFile.toString());
+        JwtServiceImpl jwtService = new JwtServiceImpl(keyRing, HOUR_MS, HOUR_MS, false, disabledCache(), denylist());
+        String oldToken = jwtService.generateAccessToken(principal());
+
+        Files.writeString(keyRingFile, keyRingJson("k2", "k1", "k2"));
+        keyRing.reload();
+        String newToken = jwtService.generateAccessToken(principal());
+
+        assertEquals("42", jwtService.verify(oldToken).userId());
+        assertEquals("42", jwtService.verify(newToken).userId());
+        assertEquals("k2", keyRing.activeKey().kid());
+
+        Files.writeString(keyRingFile, keyRingJson("k2", "k2"));
+        keyRing.reload();
+
+        assertThrows(InvalidResourceException.class, () -> jwtService.verify(oldToken));
+    }
+
+    private static String keyRingJson(String active, String... kids) {
+        StringBuilder keys = new StringBuilder();
+        for (String kid : kids) {
+            byte[] secret = new byte[32];
+            secret[0] = (byte) kid.hashCode();
+            keys.append(keys.isEmpty() ? "" : ",")
+                    .append("{\"kid\":\"").append(kid).append("\",\"alg\":\"HS256\",\"secret\":\"")
+                    .append(Base64.getEncoder().encodeToString(secret)).append("\"}");
+        }
+        return "{\"active\":\"" + active + "\",\"keys\":[" + keys + "]}";
+    }
+
+    private JwtServiceImpl hmacService() {
+        ReloadableKeyRing keyRing = new ReloadableKeyRing(SignatureAlgorithm.HS256, SECRET, "", "", "");
+        return new JwtServiceImpl(keyRing, HOUR_MS, HOUR_MS, false, disabledCache(), denylist());
+    }
+
+    private JwtServiceImpl ecdsaService() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+
+        Path privateKey = writePem("private.pem", "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        Path publicKey = writePem("public.pem", "PUBLIC KEY", keyPair.getPublic().getEncoded());
+
+        ReloadableKeyRing keyRing = new ReloadableKeyRing(SignatureAlgorithm.ES256, "",
+                privateKey.toString(), publicKey.toString(), "");
+        return new JwtServiceImpl(keyRing, HOUR_MS, HOUR_MS, false, disabledCache(), denylist());
+    }
+
+    private Path writePem(String name, String type, byte[] der) throws IOException {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+        return Files.writeString(keyDir.resolve(name), pem);
+    }
+
+    private static BloomTokenDenylist denylist() {
+        return new BloomTokenDenylist(mock(RevokedTokenRepository.class), 1000, 0.01, DataSize.ofMegabytes(1), Duration.ofSeconds(5));
+    }
+
+    private static VerifiedTokenCache disabledCache() {
+        return new VerifiedTokenCache(false, 0,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    private static UserPrincipal principal() {
+        Role role = new Role();
+        role.setName(RoleEnum.ADMIN.name());
+        User user = new User();
+        user.setId(42L);
+        user.setRole(role);
+        return UserPrincipal.of(user);
+    }
+}
@@ -0,0 +1,35 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.model.dto.PasswordHashCalibration;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashCalibratorTest {
+
+    @Test
+    void calibrate_shouldApplyIterationCountWithinBounds_andReportThroughput() {
+        Pbkdf2PasswordEncoder encoder = new Pbkdf2PasswordEncoder(1_000);
+        PasswordHashCalibrator calibrator =
+                new PasswordHashCalibrator(encoder, true, Duration.ofMillis(5), 2_000, 50_000_000);
+
+        PasswordHashCalibration result = calibrator.calibrate(Duration.ofMillis(5));
+
+        assertEquals(result.iterations(), encoder.getIterations());
+        assertTrue(result.iterations() >= 2_000);
+        assertTrue(result.hashesPerSecondPerCore() > 0);
+        assertEquals(5, result.targetMillis());
+    }
+
+    @Test
+    void calibrate_shouldNotGoBelowSecurityFloor() {
+        Pbkdf2PasswordEncoder encoder = new Pbkdf2PasswordEncoder(1_000);
+        PasswordHashCalibrator calibrator =
+                new PasswordHashCalibrator(encoder, true, Duration.ofNanos(1), 100_000, 50_000_000);
+
+        assertEquals(100_000, calibrator.calibrate(Duration.ofNanos(1)).iterations());
+    }
+}
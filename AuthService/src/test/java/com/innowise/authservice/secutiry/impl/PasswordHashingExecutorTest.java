@@ -0,0 +1,71 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHashingExecutorTest {
+
+    private final PasswordHashingExecutor executor =
+            new PasswordHashingExecutor(1, 1, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_shouldReturnTaskResult() {
+        assertEquals("hash", executor.execute(() -> "hash"));
+    }
+
+    @Test
+    void executeAll_shouldReturnResultsInTaskOrder() {
+        List<Supplier<Integer>> tasks = IntStream.range(0, 20).<Supplier<Integer>>mapToObj(i -> () -> i).toList();
+
+        assertEquals(IntStream.range(0, 20).boxed().toList(), executor.executeAll(tasks));
+    }
+
+    @Test
+    void execute_shouldFailFast_whenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }));
+        started.await();
+
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> executor.execute(() -> "queued"));
+        CompletableFuture<Object> second = CompletableFuture.supplyAsync(() -> executor.execute(() -> "queued"));
+        ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> CompletableFuture.anyOf(first, second).get());
+        release.countDown();
+
+        assertInstanceOf(ServiceUnavailableException.class, rejected.getCause());
+        assertEquals("done", running.get());
+        assertEquals("queued", (first.isCompletedExceptionally() ? second : first).get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.innowise.authservice.secutiry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Pbkdf2PasswordEncoderTest {
+
+    @Test
+    void matches_shouldAcceptOnlyOriginalPassword() {
+        Pbkdf2PasswordEncoder encoder = new Pbkdf2PasswordEncoder(1_000);
+        String salt = encoder.generateSalt();
+        String hash = encoder.encode("secret", salt);
+
+        assertTrue(hash.startsWith("$pbkdf2-sha256$v=1$i=1000$"));
+        assertTrue(encoder.matches("secret", salt, hash));
+        assertFalse(encoder.matches("Secret", salt, hash));
+        assertFalse(encoder.matches("secret", salt, "plain-sha256-hash"));
+    }
+
+    @Test
+    void matches_shouldVerifyHashesEncodedWithPreviousIterationCount() {
+        String salt = "salt";
+        String oldHash = new Pbkdf2PasswordEncoder(1_000).encode("secret", salt);
+
+        assertTrue(new Pbkdf2PasswordEncoder(2_000).matches("secret", salt, oldHash));
+    }
+
+    @Test
+    void needsRehash_shouldUpgradeOnlyHashesBelowCurrentCost() {
+        String salt = "salt";
+        Pbkdf2PasswordEncoder encoder = new Pbkdf2PasswordEncoder(2_000);
+
+        assertTrue(encoder.needsRehash(new Pbkdf2PasswordEncoder(1_000).encode("secret", salt)));
+        assertFalse(encoder.needsRehash(encoder.encode("secret", salt)));
+        assertFalse(encoder.needsRehash(new Pbkdf2PasswordEncoder(3_000).encode("secret", salt)));
+        assertTrue(encoder.needsRehash("plain-sha256-hash"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.event.UserStateChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class PrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile boolean active = true;
+
+    @Test
+    void get_shouldServeFromCache_untilUserStateChanges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+        PrincipalCache cache = new PrincipalCache(true, Duration.ofMinutes(1), 100,
+                beanFactory.getBeanProvider(MeterRegistry.class));
+
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+        active = false;
+        cache.onUserStateChanged(new UserStateChangedEvent(1L));
+        UserPrincipal reloaded = cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+        assertFalse(reloaded.isEnabled());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "auth.principals").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void get_shouldAlwaysLoad_whenDisabled() {
+        PrincipalCache cache = new PrincipalCache(false, Duration.ofMinutes(1), 100,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private UserPrincipal load(Long id) {
+        loads.incrementAndGet();
+        return new UserPrincipal(id, RoleEnum.USER.name(), active, null, null);
+    }
+}
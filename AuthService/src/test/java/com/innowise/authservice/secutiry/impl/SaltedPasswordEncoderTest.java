@@ -0,0 +1,50 @@
+package com.innowise.authservice.secutiry.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SaltedPasswordEncoderTest {
+
+    private final SaltedPasswordEncoder encoder = new SaltedPasswordEncoder();
+
+    @Test
+    void matches_shouldAcceptOnlyOriginalPassword() {
+        String salt = encoder.generateSalt();
+        String hash = encoder.encode("secret", salt);
+
+        assertTrue(encoder.matches("secret", salt, hash));
+        assertFalse(encoder.matches("Secret", salt, hash));
+        assertFalse(encoder.matches("secret", salt, "not base64!"));
+        assertNotEquals(salt, encoder.generateSalt());
+    }
+
+    @Test
+    void matches_shouldStayCorrect_underConcurrentUse() throws Exception {
+        int threads = 8;
+        String salt = encoder.generateSalt();
+        String hash = encoder.encode("secret", salt);
+        Callable<Boolean> task = () -> IntStream.range(0, 5_000)
+                .allMatch(i -> encoder.matches("secret", salt, hash) && !encoder.matches("wrong" + i, salt, hash));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = executor.invokeAll(IntStream.range(0, threads).mapToObj(i -> task).toList());
+            for (Future<Boolean> result : results) {
+                assertEquals(true, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.secutiry.AuthConstant;
+import com.innowise.authservice.secutiry.JwtService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceTokenProviderTest {
+
+    @Mock
+    JwtService jwtService;
+
+    @Test
+    void token_shouldMintServiceTokenOnce_andReuseItWhileFresh() {
+        when(jwtService.generateServiceToken(any())).thenReturn("service-token");
+        ServiceTokenProvider provider = new ServiceTokenProvider(jwtService, "", 0, AuthConstant.SERVICE_ROLE, 3_600_000);
+
+        assertEquals("service-token", provider.token());
+        assertEquals("service-token", provider.token());
+
+        verify(jwtService, times(1)).generateServiceToken(argThat(principal -> principal instanceof UserPrincipal service
+                && service.userId() == 0 && AuthConstant.SERVICE_ROLE.equals(service.role())));
+    }
+
+    @Test
+    void token_shouldMintNewToken_onceHalfOfLifetimePassed() {
+        when(jwtService.generateServiceToken(any())).thenReturn("first", "second");
+        ServiceTokenProvider provider = new ServiceTokenProvider(jwtService, "", 0, AuthConstant.SERVICE_ROLE, 0);
+
+        assertEquals("first", provider.token());
+        assertEquals("second", provider.token());
+    }
+
+    @Test
+    void token_shouldReturnConfiguredToken_whenSet() {
+        ServiceTokenProvider provider = new ServiceTokenProvider(jwtService, "configured", 0, AuthConstant.SERVICE_ROLE, 0);
+
+        assertEquals("configured", provider.token());
+        verify(jwtService, never()).generateServiceToken(any());
+    }
+}
@@ -0,0 +1,71 @@
+package com.innowise.authservice.secutiry.impl;
+
+import com.innowise.authservice.exception.InvalidResourceException;
+import com.innowise.authservice.secutiry.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.innowise.authservice.secutiry.AuthConstant.ACCESS_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VerifiedTokenCacheTest {
+
+    private static final VerifiedToken TOKEN =
+            new VerifiedToken("1", "USER", ACCESS_TYPE, Instant.now().plusSeconds(3600), null, null, null);
+
+    @Test
+    void get_shouldVerifyOnce_whenSameTokenRequestedRepeatedly() {
+        VerifiedTokenCache cache = cache(true);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            return TOKEN;
+        };
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        VerifiedTokenCache cache = cache(true);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            throw new InvalidResourceException("Token is invalid");
+        };
+
+        assertThrows(InvalidResourceException.class, () -> cache.get("token", verifier));
+        assertThrows(InvalidResourceException.class, () -> cache.get("token", verifier));
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void get_shouldAlwaysVerify_whenDisabled() {
+        VerifiedTokenCache cache = cache(false);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            return TOKEN;
+        };
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertEquals(2, verifications.get());
+    }
+
+    private static VerifiedTokenCache cache(boolean enabled) {
+        return new VerifiedTokenCache(enabled, 100,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+}
@@ -4,27 +4,51 @@ import com.innowise.authservice.exception.InvalidResourceException;
 import com.innowise.authservice.exception.ResourceNotFoundException;
 import com.innowise.authservice.model.RoleEnum;
 import com.innowise.authservice.model.dto.AuthenticationResponse;
+import com.innowise.authservice.model.dto.LoginCredential;
 import com.innowise.authservice.model.dto.LoginDto;
 import com.innowise.authservice.model.dto.TokenInfo;
 import com.innowise.authservice.model.dto.TokenPayload;
-import com.innowise.authservice.model.entity.Credential;
-import com.innowise.authservice.model.entity.User;
+import com.innowise.authservice.model.dto.TokenValidationResult;
 import com.innowise.authservice.repository.CredentialRepository;
-import com.innowise.authservice.repository.RoleRepository;
 import com.innowise.authservice.secutiry.JwtService;
 import com.innowise.authservice.secutiry.PasswordEncoder;
+import com.innowise.authservice.secutiry.RoleRegistry;
+import com.innowise.authservice.secutiry.TokenDenylist;
+import com.innowise.authservice.secutiry.VerifiedToken;
+import com.innowise.authservice.secutiry.impl.PasswordHashingExecutor;
+import com.innowise.authservice.secutiry.impl.TokenValidationExecutor;
+import com.innowise.authservice.secutiry.impl.UserPrincipal;
 import com.innowise.authservice.service.impl.AuthServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static com.innowise.authservice.secutiry.AuthConstant.ACCESS_TYPE;
+import static com.innowise.authservice.secutiry.AuthConstant.REFRESH_TYPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,11 +59,19 @@ class AuthServiceTest {
     @Mock
     UserService userService;
     @Mock
-    RoleRepository roleRepository;
+    RoleRegistry roleRegistry;
     @Mock
     CredentialRepository credentialRepository;
     @Mock
     PasswordEncoder encoder;
+    @Mock
+    TokenDenylist denylist;
+    @Spy
+    PasswordHashingExecutor hashingExecutor =
+            new PasswordHashingExecutor(1, 1, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    @Spy
+    TokenValidationExecutor validationExecutor =
+            new TokenValidationExecutor(2, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
 
     @InjectMocks
     AuthServiceImpl authService;
@@ -47,14 +79,9 @@ class AuthServiceTest {
     @Test
     void login_shouldReturnTokens_whenCredentialsAreValid() {
         LoginDto request = new LoginDto("user@example.com", "password");
-        Credential credential = new Credential();
-        credential.setEmail("user@example.com");
-        credential.setSalt("salt");
-        credential.setPasswordHash("hashed");
-        var user = new User();
-        credential.setUser(user);
-
-        when(credentialRepository.findByEmail("user@example.com")).thenReturn(Optional.of(credential));
+
+        when(credentialRepository.findLoginByEmail("user@example.com"))
+                .thenReturn(Optional.of(login("hashed", true)));
         when(encoder.matches("password", "salt", "hashed")).thenReturn(true);
         when(jwtService.generateAccessToken(any())).thenReturn("access-token");
         when(jwtService.generateRefreshToken(any())).thenReturn("refresh-token");
@@ -65,44 +92,68 @@ class AuthServiceTest {
         assertEquals("refresh-token", response.refreshToken());
     }
 
+    @Test
+    void login_shouldRehashInBackground_whenHashIsOutdated() {
+        LoginDto request = new LoginDto("user@example.com", "password");
+
+        when(credentialRepository.findLoginByEmail("user@example.com"))
+                .thenReturn(Optional.of(login("legacy-hash", true)));
+        when(encoder.matches("password", "salt", "legacy-hash")).thenReturn(true);
+        when(encoder.needsRehash("legacy-hash")).thenReturn(true);
+        when(encoder.generateSalt()).thenReturn("new-salt");
+        when(encoder.encode("password", "new-salt")).thenReturn("new-hash");
+
+        authService.login(request);
+
+        verify(credentialRepository, timeout(1000)).updatePasswordHash(5L, "legacy-hash", "new-hash", "new-salt");
+    }
+
     @Test
     void login_shouldThrow_whenPasswordIsInvalid() {
         LoginDto request = new LoginDto("user@example.com", "wrong");
-        Credential credential = new Credential();
-        credential.setSalt("salt");
-        credential.setPasswordHash("hashed");
 
-        when(credentialRepository.findByEmail("user@example.com")).thenReturn(Optional.of(credential));
+        when(credentialRepository.findLoginByEmail("user@example.com"))
+                .thenReturn(Optional.of(login("hashed", true)));
         when(encoder.matches("wrong", "salt", "hashed")).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> authService.login(request));
     }
 
+    @Test
+    void login_shouldThrow_whenUserIsDeactivated() {
+        LoginDto request = new LoginDto("user@example.com", "password");
+
+        when(credentialRepository.findLoginByEmail("user@example.com"))
+                .thenReturn(Optional.of(login("hashed", false)));
+        when(encoder.matches("password", "salt", "hashed")).thenReturn(true);
+
+        assertThrows(AccessDeniedException.class, () -> authService.login(request));
+    }
+
     @Test
     void validate_shouldReturnTokenInfo_whenTokenIsValid() {
         TokenPayload payload = new TokenPayload("valid-token");
 
-        when(jwtService.isTokenExpired("valid-token")).thenReturn(false);
-        when(jwtService.extractEmail("valid-token")).thenReturn("user@example.com");
-        when(jwtService.extractRole("valid-token")).thenReturn(RoleEnum.USER.name());
-        when(jwtService.isTokenValid("valid-token", "user@example.com", RoleEnum.USER.name())).thenReturn(true);
+        when(jwtService.verify("valid-token"))
+                .thenReturn(new VerifiedToken("1", RoleEnum.USER.name(), ACCESS_TYPE, inOneHour(), null, null, null));
 
         TokenInfo info = authService.validate(payload);
 
-        assertEquals("user@example.com", info.email());
+        assertEquals("1", info.id());
         assertEquals(RoleEnum.USER.name(), info.role());
+        assertEquals(ACCESS_TYPE, info.type());
+        verify(jwtService, times(1)).verify("valid-token");
     }
 
     @Test
     void refresh_shouldReturnNewTokens_whenTokenIsValid() {
         TokenPayload payload = new TokenPayload("refresh-token");
 
-        when(jwtService.extractEmail("refresh-token")).thenReturn("user@example.com");
-        when(jwtService.extractRole("refresh-token")).thenReturn(RoleEnum.USER.name());
-        when(jwtService.isTokenValid("refresh-token", "user@example.com", RoleEnum.USER.name())).thenReturn(true);
+        when(jwtService.verify("refresh-token"))
+                .thenReturn(new VerifiedToken("1", RoleEnum.USER.name(), REFRESH_TYPE, inOneHour(), null, null, null));
 
-        User user = new User();
-        when(userService.findByEmail("user@example.com")).thenReturn(user);
+        when(userService.loadPrincipal(1L))
+                .thenReturn(new UserPrincipal(1L, RoleEnum.USER.name(), true, null, null));
         when(jwtService.generateAccessToken(any())).thenReturn("new-access");
         when(jwtService.generateRefreshToken(any())).thenReturn("new-refresh");
 
@@ -112,23 +163,102 @@ class AuthServiceTest {
         assertEquals("new-refresh", response.refreshToken());
     }
 
+    @Test
+    void revoke_shouldAddTokenIdToDenylist_whenTokenIsValid() {
+        UUID jti = UUID.randomUUID();
+        Instant expiresAt = inOneHour();
+        when(jwtService.verify("access-token"))
+                .thenReturn(new VerifiedToken("1", RoleEnum.USER.name(), ACCESS_TYPE, expiresAt, jti, true, Instant.now()));
+
+        authService.revoke(new TokenPayload("access-token"));
+
+        verify(denylist).revoke(jti, expiresAt);
+    }
+
     @Test
     void validate_shouldThrow_whenTokenExpired() {
         TokenPayload payload = new TokenPayload("expired-token");
 
-        when(jwtService.isTokenExpired("expired-token")).thenReturn(true);
+        when(jwtService.verify("expired-token")).thenThrow(new InvalidResourceException("Token has expired"));
 
         assertThrows(InvalidResourceException.class, () -> authService.validate(payload));
     }
 
     @Test
-    void refresh_shouldThrow_whenTokenIsInvalid() {
-        TokenPayload payload = new TokenPayload("invalid-token");
+    void refresh_shouldThrow_whenTokenIsNotRefreshToken() {
+        TokenPayload payload = new TokenPayload("access-token");
 
-        when(jwtService.extractEmail("invalid-token")).thenReturn("user@example.com");
-        when(jwtService.extractRole("invalid-token")).thenReturn(RoleEnum.USER.name());
-        when(jwtService.isTokenValid("invalid-token", "user@example.com", RoleEnum.USER.name())).thenReturn(false);
+        when(jwtService.verify("access-token"))
+                .thenReturn(new VerifiedToken("1", RoleEnum.USER.name(), ACCESS_TYPE, inOneHour(), null, null, null));
 
         assertThrows(InvalidResourceException.class, () -> authService.refresh(payload));
     }
-}
\ No newline at end of file
+
+    @Test
+    void validateAll_shouldReturnResultPerToken_whenSomeTokensAreInvalid() {
+        ReflectionTestUtils.setField(authService, "batchMaxSize", 10);
+        ReflectionTestUtils.setField(authService, "batchParallelThreshold", 10);
+
+        when(jwtService.verify("valid-token"))
+                .thenReturn(new VerifiedToken("1", RoleEnum.USER.name(), ACCESS_TYPE, inOneHour(), null, null, null));
+        when(jwtService.verify("invalid-token")).thenThrow(new InvalidResourceException("Token is invalid"));
+
+        List<TokenValidationResult> results = authService.validateAll(List.of(
+                new TokenPayload("valid-token"), new TokenPayload("invalid-token")));
+
+        assertEquals("1", results.get(0).info().id());
+        assertEquals("Token is invalid", results.get(1).error());
+    }
+
+    @Test
+    void validateAll_shouldReturnInvalidResult_forMalformedEntries() {
+        ReflectionTestUtils.setField(authService, "batchMaxSize", 10);
+        ReflectionTestUtils.setField(authService, "batchParallelThreshold", 10);
+
+        when(jwtService.verify("broken-token")).thenThrow(new IllegalStateException("Unexpected"));
+
+        List<TokenValidationResult> results = authService.validateAll(Arrays.asList(
+                null, new TokenPayload(null), new TokenPayload(" "), new TokenPayload("broken-token")));
+
+        assertEquals("Token is missing or empty", results.get(0).error());
+        assertEquals("Token is missing or empty", results.get(1).error());
+        assertEquals("Token is missing or empty", results.get(2).error());
+        assertEquals("Token could not be validated", results.get(3).error());
+    }
+
+    @Test
+    void validateAll_shouldRunOnValidationPool_whenBatchReachesParallelThreshold() {
+        ReflectionTestUtils.setField(authService, "batchMaxSize", 10);
+        ReflectionTestUtils.setField(authService, "batchParallelThreshold", 2);
+
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(jwtService.verify(anyString())).thenAnswer(call -> {
+            threads.add(Thread.currentThread().getName());
+            return new VerifiedToken(call.getArgument(0), RoleEnum.USER.name(), ACCESS_TYPE, inOneHour(),
+                    null, null, null);
+        });
+
+        List<TokenValidationResult> results = authService.validateAll(List.of(
+                new TokenPayload("1"), new TokenPayload("2"), new TokenPayload("3"), new TokenPayload("4")));
+
+        assertEquals(List.of("1", "2", "3", "4"), results.stream().map(result -> result.info().id()).toList());
+        assertTrue(threads.stream().allMatch(thread -> thread.startsWith("token-validation-")), threads::toString);
+    }
+
+    @Test
+    void validateAll_shouldThrow_whenBatchExceedsLimit() {
+        ReflectionTestUtils.setField(authService, "batchMaxSize", 1);
+
+        List<TokenPayload> tokens = List.of(new TokenPayload("a"), new TokenPayload("b"));
+
+        assertThrows(InvalidResourceException.class, () -> authService.validateAll(tokens));
+    }
+
+    private static LoginCredential login(String hash, boolean active) {
+        return new LoginCredential(5L, 1L, "user@example.com", hash, "salt", RoleEnum.USER.name(), active);
+    }
+
+    private static Instant inOneHour() {
+        return Instant.now().plusSeconds(3600);
+    }
+}
@@ -0,0 +1,135 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.model.dto.UserDto;
+import com.innowise.authservice.service.UserClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingUserClientTest {
+
+    @Mock
+    UserClient userClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CoalescingUserClient client;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        client.shutdown();
+    }
+
+    @Test
+    void createUser_shouldSendConcurrentCallsAsOneBulkCall() {
+        when(userClient.createUsers(any(), any(), eq("token"))).thenAnswer(call -> LongStream
+                .rangeClosed(1, call.<List<UserDto>>getArgument(0).size()).boxed().toList());
+        client = client(true, 10);
+
+        List<CompletableFuture<Long>> results = IntStream.range(0, 5)
+                .mapToObj(i -> client.createUser(user("user-" + i), "key-" + i, "token"))
+                .toList();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), results.stream().map(CompletableFuture::join).toList());
+        verify(userClient).createUsers(
+                argThat(users -> users.size() == 5 && "user-0".equals(users.getFirst().getName())),
+                eq(List.of("key-0", "key-1", "key-2", "key-3", "key-4")), eq("token"));
+        assertEquals(5, meterRegistry.summary("user.service.batch.size").max());
+    }
+
+    @Test
+    void createUser_shouldSendSeparateCalls_forDifferentTokens() {
+        when(userClient.createUser(any(), any(), eq("first"))).thenReturn(1L);
+        when(userClient.createUser(any(), any(), eq("second"))).thenReturn(2L);
+        client = client(true, 10);
+
+        CompletableFuture<Long> first = client.createUser(user("first"), "1", "first");
+        CompletableFuture<Long> second = client.createUser(user("second"), "2", "second");
+
+        assertEquals(Map.of("first", 1L, "second", 2L), Map.of("first", first.join(), "second", second.join()));
+        verify(userClient, never()).createUsers(any(), any(), any());
+    }
+
+    @Test
+    void createUser_shouldFailEveryCallOfBatch_whenBulkCallFails() {
+        when(userClient.createUsers(any(), any(), any())).thenThrow(new ResourceAccessException("timeout"));
+        client = client(true, 10);
+
+        CompletableFuture<Long> first = client.createUser(user("first"), "1", "token");
+        CompletableFuture<Long> second = client.createUser(user("second"), "2", "token");
+
+        for (CompletableFuture<Long> result : List.of(first, second)) {
+            CompletionException e = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(ResourceAccessException.class, e.getCause());
+        }
+    }
+
+    @Test
+    void createUser_shouldSendUsersOneByOne_whenBulkCallIsRejected() {
+        when(userClient.createUsers(any(), any(), any()))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+        when(userClient.createUser(any(), eq("1"), any())).thenReturn(1L);
+        when(userClient.createUser(any(), eq("2"), any()))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+        client = client(true, 10);
+
+        CompletableFuture<Long> first = client.createUser(user("first"), "1", "token");
+        CompletableFuture<Long> second = client.createUser(user("second"), "2", "token");
+
+        assertEquals(1L, first.join());
+        CompletionException e = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(HttpClientErrorException.class, e.getCause());
+    }
+
+    @Test
+    void createUser_shouldCallUserServiceOnCallingThread_whenCoalescingIsDisabled() {
+        when(userClient.createUser(any(), eq("key"), eq("token"))).thenReturn(42L);
+        client = client(false, 10);
+
+        CompletableFuture<Long> result = client.createUser(user("user"), "key", "token");
+
+        assertTrue(result.isDone());
+        assertEquals(42L, result.join());
+    }
+
+    private CoalescingUserClient client(boolean enabled, int maxBatchSize) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        // A long linger keeps the calls of a test in one batch however slow the machine is
+        return new CoalescingUserClient(userClient, enabled, maxBatchSize, Duration.ofMillis(500), 2, 100,
+                beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private static UserDto user(String name) {
+        UserDto user = new UserDto();
+        user.setName(name);
+        return user;
+    }
+}
@@ -0,0 +1,131 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.config.AppConfig;
+import com.innowise.authservice.model.dto.UserDto;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@link UserClientImpl} with the production HTTP client against a local stub of the User Service.
+ */
+class UserClientImplTest {
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+
+    private final AppConfig appConfig = new AppConfig();
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private UserClientImpl userClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/users", exchange -> {
+            connections.add(exchange.getRemoteAddress());
+            idempotencyKeys.add(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = "{\"id\":42}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/api/v1/users/bulk", exchange -> {
+            idempotencyKeys.add(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = "[{\"id\":7},{\"id\":8}]".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(READ_TIMEOUT.multipliedBy(10).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.start();
+
+        connectionManager = appConfig.userServiceConnectionManager(
+                10, 10, Duration.ofSeconds(1), READ_TIMEOUT, Duration.ofMinutes(5));
+        httpClient = appConfig.userServiceHttpClient(
+                connectionManager, READ_TIMEOUT, Duration.ofSeconds(1), Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        connectionManager.close();
+        server.stop(0);
+    }
+
+    @Test
+    void createUser_shouldReuseOneConnection_forSequentialCalls() {
+        userClient = client("/api/v1/users");
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(42L, userClient.createUser(new UserDto(), "1", "token"));
+        }
+
+        assertEquals(1, connections.size());
+        assertEquals(1, connectionManager.getTotalStats().getAvailable());
+    }
+
+    @Test
+    void createUsers_shouldReturnIdsInRequestOrder() {
+        userClient = client("/api/v1/users");
+
+        assertEquals(List.of(7L, 8L),
+                userClient.createUsers(List.of(new UserDto(), new UserDto()), List.of("7", "8"), "token"));
+        assertEquals(List.of("7,8"), idempotencyKeys);
+    }
+
+    @Test
+    void createUser_shouldSendIdempotencyKey() {
+        userClient = client("/api/v1/users");
+
+        userClient.createUser(new UserDto(), "42", "token");
+
+        assertEquals(List.of("42"), idempotencyKeys);
+    }
+
+    @Test
+    void createUser_shouldFailFast_whenUserServiceDoesNotRespond() {
+        userClient = client("/slow");
+        long started = System.nanoTime();
+
+        assertThrows(ResourceAccessException.class, () -> userClient.createUser(new UserDto(), "1", "token"));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(READ_TIMEOUT.multipliedBy(5)) < 0);
+    }
+
+    private UserClientImpl client(String path) {
+        return new UserClientImpl("http://localhost:" + server.getAddress().getPort(), path, path + "/bulk",
+                appConfig.restTemplate(new RestTemplateBuilder(), httpClient));
+    }
+}
@@ -0,0 +1,141 @@
+package com.innowise.authservice.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.authservice.model.OutboxStatus;
+import com.innowise.authservice.model.dto.UserDto;
+import com.innowise.authservice.model.entity.UserOutboxMessage;
+import com.innowise.authservice.repository.UserOutboxRepository;
+import com.innowise.authservice.secutiry.impl.ServiceTokenProvider;
+import com.innowise.authservice.service.AsyncUserClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserCreationOutboxTest {
+
+    @Mock
+    UserOutboxRepository repository;
+    @Mock
+    AsyncUserClient userClient;
+    @Mock
+    ServiceTokenProvider serviceTokens;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void dispatch_shouldDeleteMessage_whenUserIsCreated() throws Exception {
+        when(repository.claimBatch(any(), any(), anyInt())).thenReturn(List.of(message(1L, 1)));
+        when(userClient.createUser(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(7L));
+        when(serviceTokens.token()).thenReturn("service-token");
+
+        outbox().dispatch();
+
+        verify(userClient).createUser(argThat(user -> "Ann".equals(user.getName())), eq("7"), eq("service-token"));
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void dispatch_shouldRetryWithBackoff_whenUserServiceFails() throws Exception {
+        when(repository.claimBatch(any(), any(), anyInt())).thenReturn(List.of(message(1L, 3)));
+        when(userClient.createUser(any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new ResourceAccessException("timeout")));
+        Instant before = Instant.now();
+
+        outbox().dispatch();
+
+        verify(repository).markFailed(eq(1L), eq(OutboxStatus.PENDING),
+                argThat(next -> !next.isBefore(before.plusSeconds(2))), argThat(error -> error.contains("timeout")));
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void dispatch_shouldGiveUp_whenAttemptsAreExhausted() throws Exception {
+        when(repository.claimBatch(any(), any(), anyInt())).thenReturn(List.of(message(1L, 5)));
+        when(userClient.createUser(any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new ResourceAccessException("timeout")));
+
+        outbox().dispatch();
+
+        verify(repository).markFailed(eq(1L), eq(OutboxStatus.FAILED), any(), anyString());
+    }
+
+    @Test
+    void dispatch_shouldDeleteMessage_whenUserAlreadyExists() throws Exception {
+        when(repository.claimBatch(any(), any(), anyInt())).thenReturn(List.of(message(1L, 2)));
+        when(userClient.createUser(any(), any(), any())).thenReturn(CompletableFuture.failedFuture(
+                HttpClientErrorException.create(HttpStatus.CONFLICT, "Conflict", null, null, null)));
+
+        outbox().dispatch();
+
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+        verify(repository, never()).markFailed(any(), any(), any(), any());
+    }
+
+    @Test
+    void dispatch_shouldFailMessageAtOnce_whenUserServiceRejectsRequest() throws Exception {
+        when(repository.claimBatch(any(), any(), anyInt())).thenReturn(List.of(message(1L, 1)));
+        when(userClient.createUser(any(), any(), any())).thenReturn(CompletableFuture.failedFuture(
+                HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null)));
+
+        outbox().dispatch();
+
+        verify(repository).markFailed(eq(1L), eq(OutboxStatus.FAILED), any(), argThat(error -> error.contains("400")));
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void dispatch_shouldRetry_whenUserServiceIsRateLimiting() throws Exception {
+        when(repository.claimBatch(any(), any(), anyInt())).thenReturn(List.of(message(1L, 1)));
+        when(userClient.createUser(any(), any(), any())).thenReturn(CompletableFuture.failedFuture(
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null)));
+
+        outbox().dispatch();
+
+        verify(repository).markFailed(eq(1L), eq(OutboxStatus.PENDING), any(), anyString());
+    }
+
+    @Test
+    void backoff_shouldGrowExponentiallyUpToMaximum() {
+        UserCreationOutbox outbox = outbox();
+
+        Duration third = outbox.backoff(3);
+        Duration capped = outbox.backoff(30);
+
+        assertTrue(third.toMillis() >= 2_000 && third.toMillis() <= 4_000);
+        assertTrue(capped.toMillis() >= 30_000 && capped.toMillis() <= 60_000);
+    }
+
+    private UserCreationOutbox outbox() {
+        return new UserCreationOutbox(repository, userClient, objectMapper, serviceTokens, 10, Duration.ofMinutes(1), 5,
+                Duration.ofSeconds(1), Duration.ofMinutes(1));
+    }
+
+    private UserOutboxMessage message(Long id, int attempts) throws Exception {
+        UserDto user = new UserDto();
+        user.setName("Ann");
+        UserOutboxMessage message = new UserOutboxMessage(7L, objectMapper.writeValueAsString(user));
+        message.setId(id);
+        message.setAttempts(attempts);
+        return message;
+    }
+}
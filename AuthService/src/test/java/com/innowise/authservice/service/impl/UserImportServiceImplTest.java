@@ -0,0 +1,163 @@
+package com.innowise.authservice.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.authservice.model.RoleEnum;
+import com.innowise.authservice.model.dto.ImportedUser;
+import com.innowise.authservice.model.dto.UserImportResult;
+import com.innowise.authservice.model.entity.IdGeneration;
+import com.innowise.authservice.model.entity.Role;
+import com.innowise.authservice.repository.SequenceIdAllocator;
+import com.innowise.authservice.repository.UserImportRepository;
+import com.innowise.authservice.secutiry.PasswordEncoder;
+import com.innowise.authservice.secutiry.RoleRegistry;
+import com.innowise.authservice.secutiry.impl.PasswordHashingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserImportServiceImplTest {
+
+    @Mock
+    UserImportRepository importRepository;
+    @Mock
+    SequenceIdAllocator idAllocator;
+    @Mock
+    RoleRegistry roleRegistry;
+    @Mock
+    PasswordEncoder encoder;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final PasswordHashingExecutor hashingExecutor =
+            new PasswordHashingExecutor(2, 2, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role();
+        role.setId(1L);
+        role.setName(RoleEnum.USER.name());
+        when(roleRegistry.findByName(RoleEnum.USER.name())).thenReturn(Optional.of(role));
+        when(roleRegistry.findByName("OWNER")).thenReturn(Optional.empty());
+        when(encoder.generateSalt()).thenReturn("salt");
+        when(encoder.encode(anyString(), eq("salt"))).thenAnswer(call -> "hash:" + call.getArgument(0));
+        when(importRepository.findExistingEmails(any())).thenReturn(Set.of());
+        when(idAllocator.allocate(eq(IdGeneration.USERS_SEQUENCE), anyInt()))
+                .thenAnswer(call -> LongStream.rangeClosed(1, call.<Integer>getArgument(1)).boxed().toList());
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void importUsers_shouldReportResultPerRecord_whenSomeRecordsAreRejected() throws Exception {
+        when(importRepository.findExistingEmails(any())).thenReturn(Set.of("taken@example.com"));
+
+        List<UserImportResult> results = importUsers(10,
+                record("ann@example.com", "password1", "user"),
+                record("not-an-email", "password1", "user"),
+                record("ann@example.com", "password2", "user"),
+                record("taken@example.com", "password1", "user"),
+                record("bob@example.com", "password1", "owner"));
+
+        assertEquals(1L, results.get(0).userId());
+        assertEquals("Email must be valid", results.get(1).error());
+        assertEquals("Email ann@example.com is repeated in the import", results.get(2).error());
+        assertEquals("Email taken@example.com is already in use", results.get(3).error());
+        assertEquals("Role 'OWNER' was not found", results.get(4).error());
+
+        ArgumentCaptor<List<ImportedUser>> inserted = ArgumentCaptor.captor();
+        verify(importRepository).insert(inserted.capture());
+        assertEquals(1, inserted.getValue().size());
+        assertEquals("hash:password1", inserted.getValue().get(0).passwordHash());
+    }
+
+    @Test
+    void importUsers_shouldWriteEachChunkInItsOwnBatch() throws Exception {
+        List<UserImportResult> results = importUsers(2,
+                record("a@example.com", "password", "user"),
+                record("b@example.com", "password", "user"),
+                record("c@example.com", "password", "user"));
+
+        assertEquals(List.of(0L, 1L, 2L), results.stream().map(UserImportResult::index).toList());
+        verify(importRepository, times(2)).insert(any());
+    }
+
+    @Test
+    void importUsers_shouldAcceptJsonArray() throws Exception {
+        String input = "[" + record("a@example.com", "password", "user") + ","
+                + record("b@example.com", "password", "user") + "]";
+
+        List<UserImportResult> results = run(10, input);
+
+        assertEquals(List.of(1L, 2L), results.stream().map(UserImportResult::userId).toList());
+    }
+
+    @Test
+    void importUsers_shouldStopAtMalformedRecord_afterImportingPrecedingOnes() throws Exception {
+        String input = record("a@example.com", "password", "user") + "\n{\"credentials\": \n";
+
+        List<UserImportResult> results = run(10, input);
+
+        assertEquals(2, results.size());
+        assertEquals(1L, results.get(0).userId());
+        assertNull(results.get(1).userId());
+        verify(importRepository).insert(any());
+    }
+
+    private List<UserImportResult> importUsers(int chunkSize, String... records) throws Exception {
+        return run(chunkSize, String.join("\n", records));
+    }
+
+    private List<UserImportResult> run(int chunkSize, String input) throws Exception {
+        UserImportServiceImpl service = new UserImportServiceImpl(importRepository, idAllocator, roleRegistry, encoder,
+                hashingExecutor, Validation.buildDefaultValidatorFactory().getValidator(), objectMapper,
+                transactionManager, chunkSize);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.importUsers(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        return objectMapper.readerFor(UserImportResult.class)
+                .<UserImportResult>readValues(output.toByteArray())
+                .readAll();
+    }
+
+    private static String record(String email, String password, String role) {
+        return "{\"userData\":{\"name\":\"Test\",\"email\":\"%s\"},\"credentials\":{\"email\":\"%s\",\"password\":\"%s\",\"role\":\"%s\"}}"
+                .formatted(email, email, password, role);
+    }
+}
@@ -0,0 +1,71 @@
+package com.innowise.authservice.service.impl;
+
+import com.innowise.authservice.model.dto.AuthDto;
+import com.innowise.authservice.model.dto.CredentialsDto;
+import com.innowise.authservice.model.dto.UserDto;
+import com.innowise.authservice.model.entity.Role;
+import com.innowise.authservice.repository.CredentialRepository;
+import com.innowise.authservice.repository.SequenceIdAllocator;
+import com.innowise.authservice.repository.UserRepository;
+import com.innowise.authservice.secutiry.PasswordEncoder;
+import com.innowise.authservice.secutiry.impl.PasswordHashingExecutor;
+import com.innowise.authservice.secutiry.impl.PrincipalCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    @Mock
+    CredentialRepository credentialRepository;
+    @Mock
+    UserRepository userRepository;
+    @Mock
+    SequenceIdAllocator idAllocator;
+    @Mock
+    PasswordEncoder encoder;
+    @Mock
+    PasswordHashingExecutor hashingExecutor;
+    @Mock
+    PrincipalCache principalCache;
+    @Mock
+    UserCreationOutbox userCreationOutbox;
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    UserServiceImpl userService;
+
+    @Test
+    void register_shouldHashPasswordBeforeOpeningTransaction() {
+        when(encoder.generateSalt()).thenReturn("salt");
+        when(hashingExecutor.execute(any())).thenAnswer(call -> call.<Supplier<String>>getArgument(0).get());
+        when(encoder.encode("secret-password", "salt")).thenReturn("hash");
+
+        userService.register(request(), new Role());
+
+        InOrder order = inOrder(hashingExecutor, transactionTemplate);
+        order.verify(hashingExecutor).execute(any());
+        order.verify(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static AuthDto request() {
+        AuthDto request = new AuthDto();
+        ReflectionTestUtils.setField(request, "userData", new UserDto());
+        ReflectionTestUtils.setField(request, "credentials",
+                new CredentialsDto("user@example.com", "secret-password", "user"));
+        return request;
+    }
+}